@@ -33,6 +33,8 @@ public class WorldTimingsHandler {
 
     public final Timing mobSpawn;
     public final Timing doChunkUnload;
+    public final Timing incrementalAutoSave;
+    public final Timing incrementalAutoSaveChunk;
     public final Timing doPortalForcer;
     public final Timing scheduledBlocks;
     public final Timing scheduledBlocksCleanup;
@@ -80,6 +82,8 @@ public WorldTimingsHandler(World world) {
 
         this.mobSpawn = SpongeTimingsFactory.ofSafe(name + "mobSpawn");
         this.doChunkUnload = SpongeTimingsFactory.ofSafe(name + "doChunkUnload");
+        this.incrementalAutoSave = SpongeTimingsFactory.ofSafe(name + "incrementalAutoSave");
+        this.incrementalAutoSaveChunk = SpongeTimingsFactory.ofSafe(name + "incrementalAutoSave - Chunk", this.incrementalAutoSave);
         this.scheduledBlocks = SpongeTimingsFactory.ofSafe(name + "Scheduled Blocks");
         this.scheduledBlocksCleanup = SpongeTimingsFactory.ofSafe(name + "Scheduled Blocks - Cleanup");
         this.scheduledBlocksTicking = SpongeTimingsFactory.ofSafe(name + "Scheduled Blocks - Ticking");
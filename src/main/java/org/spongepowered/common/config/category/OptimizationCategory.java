@@ -56,6 +56,44 @@ public class OptimizationCategory extends ConfigCategory {
                                                                + "world heights and can thus be disabled in those cases.")
     private boolean inlineBlockPositionChecks = true;
 
+    @Setting(value = "particle-flush-coalescing", comment = "Particles spawned through the API are written to each player's connection\n"
+                                                              + "right away but only flushed at the end of the server tick, so that many\n"
+                                                              + "small effects are sent to the client in fewer network writes.")
+    private boolean particleFlushCoalescing = true;
+
+    @Setting(value = "cache-save-delay", comment = "The number of seconds to wait before writing changes of the username and profile\n"
+                                                     + "caches to disk. Changes made in the meantime are written together, off the\n"
+                                                     + "main thread. Pending changes are always written when the server stops.")
+    private int cacheSaveDelay = 5;
+
+    @Setting(value = "parallel-block-worker-reduction", comment = "Reduces large immutable block volumes, such as immutable block copies, on\n"
+                                                                    + "multiple threads. The volume is split into chunk aligned columns which are\n"
+                                                                    + "reduced separately, and the results are merged in order. This requires\n"
+                                                                    + "reducers to be thread safe, and the identity to be a true identity.")
+    private boolean parallelBlockWorkerReduction = false;
+
+    @Setting(value = "parallel-block-worker-iteration", comment = "Visits the blocks of large immutable block volumes on multiple threads.\n"
+                                                                   + "Blocks are then visited out of order, so this requires visitors that\n"
+                                                                   + "don't depend on the order and are thread safe.")
+    private boolean parallelBlockWorkerIteration = false;
+
+    @Setting(value = "copy-on-write-block-copies", comment = "Immutable block copies of worlds taken on the main thread share the chunk\n"
+                                                               + "sections of the world, instead of copying every block. A section is only\n"
+                                                               + "copied once the world is about to change it.")
+    private boolean copyOnWriteBlockCopies = true;
+
+    @Setting(value = "parallel-spawn-preparation", comment = "Reads the stored spawn chunks of all worlds on multiple threads while the\n"
+                                                              + "server starts, so that preparing the spawn area of each world only has to\n"
+                                                              + "generate the chunks that are missing. Generation still happens on the main\n"
+                                                              + "thread, one world after another.")
+    private boolean parallelSpawnPreparation = true;
+
+    @Setting(value = "explosion-cache", comment = "Shares explosion calculations between the explosions of a world within a\n"
+                                                   + "tick, until a block in the world changes. Block lookups and entity exposure\n"
+                                                   + "are reused, and TNT explosions with the same origin and power reuse the\n"
+                                                   + "affected blocks of the first one instead of casting their own rays.")
+    private boolean explosionCache = true;
+
     @Setting(value = "structure-saving", comment = "Handles structures that are saved to disk. Certain structures can take up large amounts\n"
             + "of disk space for very large maps and the data for these structures is only needed while the world\n"
             + "around them is generating. Disabling saving of these structures can save disk space and time during\n"
@@ -91,4 +129,32 @@ public boolean useCacheTameableOwners() {
     public boolean isInlineBlockPositionChecks() {
         return this.inlineBlockPositionChecks;
     }
-}
\ No newline at end of file
+
+    public boolean useParticleFlushCoalescing() {
+        return this.particleFlushCoalescing;
+    }
+
+    public int getCacheSaveDelay() {
+        return this.cacheSaveDelay;
+    }
+
+    public boolean useParallelBlockWorkerReduction() {
+        return this.parallelBlockWorkerReduction;
+    }
+
+    public boolean useParallelBlockWorkerIteration() {
+        return this.parallelBlockWorkerIteration;
+    }
+
+    public boolean useCopyOnWriteBlockCopies() {
+        return this.copyOnWriteBlockCopies;
+    }
+
+    public boolean useParallelSpawnPreparation() {
+        return this.parallelSpawnPreparation;
+    }
+
+    public boolean useExplosionCache() {
+        return this.explosionCache;
+    }
+}
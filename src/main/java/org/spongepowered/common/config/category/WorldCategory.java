@@ -36,6 +36,14 @@ public class WorldCategory extends ConfigCategory {
     @Setting(value = "auto-save-interval", comment = "The auto-save tick interval used to save all loaded chunks in a world. \nSet to 0 to disable. (Default: 900) \nNote: 20 ticks is equivalent to 1 second.")
     private int autoSaveInterval = 900;
 
+    @Setting(value = "incremental-auto-save", comment = "Enable to spread each auto-save over its 'auto-save-interval' instead of saving every dirty chunk on a single tick. "
+                                                        + "\nWorlds are also offset from each other so that they do not start saving on the same tick. (Default: false)")
+    private boolean incrementalAutoSave = false;
+
+    @Setting(value = "incremental-auto-save-max-millis", comment = "The maximum number of milliseconds an incremental auto-save may spend saving chunks in a single tick. "
+                                                                   + "\nAt least one chunk is always saved per tick while chunks are queued. (Default: 5)")
+    private int incrementalAutoSaveMaxMillis = 5;
+
     @Setting(value = "infinite-water-source", comment = "Vanilla water source behavior - is infinite")
     private boolean infiniteWaterSource = false;
 
@@ -98,6 +106,11 @@ public class WorldCategory extends ConfigCategory {
                                                     + "\nareas for more items. Setting to a negative value is not supported!")
     private double itemMergeRadius = 2.5D;
 
+    @Setting(value = "item-merge-interval", comment = "The tick interval at which all Item entities of the world are merged in a single pass."
+                                                      + "\nWhile enabled, Items no longer search for other items to merge with on their own."
+                                                      + "\nSet to 0 to disable which restores vanilla handling. (Default: 0)")
+    private int itemMergeInterval = 0;
+
     @Setting(value = "weather-thunder", comment = "Enable to initiate thunderstorms in supported biomes.")
     private boolean weatherThunder = true;
 
@@ -113,6 +126,14 @@ public int getAutoSaveInterval() {
         return this.autoSaveInterval;
     }
 
+    public boolean useIncrementalAutoSave() {
+        return this.incrementalAutoSave;
+    }
+
+    public int getIncrementalAutoSaveMaxMillis() {
+        return this.incrementalAutoSaveMaxMillis;
+    }
+
     public boolean hasInfiniteWaterSource() {
         return this.infiniteWaterSource;
     }
@@ -209,6 +230,10 @@ public double getItemMergeRadius() {
         return this.itemMergeRadius;
     }
 
+    public int getItemMergeInterval() {
+        return this.itemMergeInterval;
+    }
+
     public boolean getWeatherThunder() {
         return this.weatherThunder;
     }
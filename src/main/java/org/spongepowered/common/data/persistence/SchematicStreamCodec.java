@@ -0,0 +1,596 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagByte;
+import net.minecraft.nbt.NBTTagByteArray;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagDouble;
+import net.minecraft.nbt.NBTTagFloat;
+import net.minecraft.nbt.NBTTagInt;
+import net.minecraft.nbt.NBTTagIntArray;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagLong;
+import net.minecraft.nbt.NBTTagShort;
+import net.minecraft.nbt.NBTTagString;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.tileentity.TileEntityArchetype;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.MemoryDataContainer;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.api.world.schematic.BlockPalette;
+import org.spongepowered.api.world.schematic.BlockPaletteTypes;
+import org.spongepowered.api.world.schematic.Schematic;
+import org.spongepowered.common.data.util.NbtDataUtil;
+import org.spongepowered.common.util.gen.ArrayMutableBlockBuffer;
+import org.spongepowered.common.world.schematic.SpongeSchematic;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and writes the sponge schematic format directly from and to a raw
+ * (uncompressed) NBT stream. Unlike {@link SchematicTranslator#translate(DataView)}
+ * the block data is never materialized as a {@code byte[]} or a
+ * {@link DataContainer}, it is decoded in bulk straight into the packed
+ * backing array of the resulting block buffer.
+ */
+final class SchematicStreamCodec {
+
+    private static final int MAX_DEPTH = 512;
+    private static final int CHUNK_SIZE = 8192;
+
+    private SchematicStreamCodec() {
+    }
+
+    static Schematic read(DataInput input) throws IOException {
+        if (input.readByte() != NbtDataUtil.TAG_COMPOUND) {
+            throw new InvalidDataException("Schematic root tag is not a compound");
+        }
+        input.readUTF();
+
+        int version = -1;
+        int width = -1;
+        int height = -1;
+        int length = -1;
+        int[] offset = null;
+        int paletteMax = 0xFFFF;
+        Map<String, Integer> paletteEntries = null;
+        NBTTagCompound metadata = null;
+        NBTTagList tileData = null;
+        PackedBlockData blocks = null;
+        byte[] deferredBlocks = null;
+
+        byte type;
+        while ((type = input.readByte()) != NbtDataUtil.TAG_END) {
+            final String key = input.readUTF();
+            if (SchematicTranslator.VERSION_KEY.equals(key)) {
+                version = readNumber(input, type);
+            } else if (SchematicTranslator.WIDTH_KEY.equals(key)) {
+                width = readNumber(input, type) & 0xFFFF;
+            } else if (SchematicTranslator.HEIGHT_KEY.equals(key)) {
+                height = readNumber(input, type) & 0xFFFF;
+            } else if (SchematicTranslator.LENGTH_KEY.equals(key)) {
+                length = readNumber(input, type) & 0xFFFF;
+            } else if (SchematicTranslator.PALETTE_MAX_KEY.equals(key)) {
+                paletteMax = readNumber(input, type);
+            } else if (SchematicTranslator.OFFSET_KEY.equals(key) && type == NbtDataUtil.TAG_INT_ARRAY) {
+                offset = ((NBTTagIntArray) readTag(input, type, 0)).getIntArray();
+            } else if (SchematicTranslator.PALETTE_KEY.equals(key) && type == NbtDataUtil.TAG_COMPOUND) {
+                paletteEntries = readPalette(input);
+            } else if (SchematicTranslator.METADATA_KEY.equals(key) && type == NbtDataUtil.TAG_COMPOUND) {
+                metadata = (NBTTagCompound) readTag(input, type, 0);
+            } else if (SchematicTranslator.TILEENTITY_DATA_KEY.equals(key) && type == NbtDataUtil.TAG_LIST) {
+                tileData = (NBTTagList) readTag(input, type, 0);
+            } else if (SchematicTranslator.BLOCK_DATA_KEY.equals(key) && type == NbtDataUtil.TAG_BYTE_ARRAY) {
+                if (width < 0 || height < 0 || length < 0) {
+                    // The dimensions are stored after the block data, we have no
+                    // choice but to hold on to the raw bytes until we know them.
+                    deferredBlocks = new byte[input.readInt()];
+                    input.readFully(deferredBlocks);
+                } else {
+                    blocks = new PackedBlockData(width, height, length, paletteMax);
+                    final byte[] chunk = new byte[CHUNK_SIZE];
+                    int remaining = input.readInt();
+                    while (remaining > 0) {
+                        final int read = Math.min(remaining, chunk.length);
+                        input.readFully(chunk, 0, read);
+                        blocks.accept(chunk, 0, read);
+                        remaining -= read;
+                    }
+                }
+            } else {
+                skipTag(input, type, 0);
+            }
+        }
+
+        if (version != SchematicTranslator.VERSION) {
+            throw new InvalidDataException(String.format("Unknown schematic version %d (current version is %d)", version,
+                    SchematicTranslator.VERSION));
+        }
+        if (width < 0 || height < 0 || length < 0) {
+            throw new InvalidDataException("Schematic is missing its dimensions");
+        }
+        SchematicTranslator.checkSize(width, height, length);
+        if (offset == null) {
+            offset = new int[3];
+        }
+        if (offset.length != 3) {
+            throw new InvalidDataException("Schematic offset was not of length 3");
+        }
+        if (blocks == null) {
+            blocks = new PackedBlockData(width, height, length, paletteMax);
+            if (deferredBlocks != null) {
+                blocks.accept(deferredBlocks, 0, deferredBlocks.length);
+            }
+        }
+        blocks.finish();
+
+        final BlockPalette palette = SchematicTranslator.createPalette(paletteEntries, paletteMax);
+        final ArrayMutableBlockBuffer buffer = blocks.toBuffer(palette, new Vector3i(-offset[0], -offset[1], -offset[2]));
+
+        final Map<Vector3i, TileEntityArchetype> tiles = Maps.newHashMap();
+        if (tileData != null) {
+            final List<DataView> tiles0 = Lists.newArrayListWithCapacity(tileData.tagCount());
+            for (int i = 0; i < tileData.tagCount(); i++) {
+                tiles0.add(NbtTranslator.getInstance().translateFrom(tileData.getCompoundTagAt(i)));
+            }
+            SchematicTranslator.readTileEntities(tiles0, buffer, offset, tiles);
+        }
+        final DataView meta = metadata == null
+                ? new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED)
+                : NbtTranslator.getInstance().translateFrom(metadata);
+        return new SpongeSchematic(buffer, tiles, meta);
+    }
+
+    static void write(Schematic schematic, DataOutput output) throws IOException {
+        final int xMin = schematic.getBlockMin().getX();
+        final int yMin = schematic.getBlockMin().getY();
+        final int zMin = schematic.getBlockMin().getZ();
+        final int width = schematic.getBlockSize().getX();
+        final int height = schematic.getBlockSize().getY();
+        final int length = schematic.getBlockSize().getZ();
+        if (width > SchematicTranslator.MAX_SIZE || height > SchematicTranslator.MAX_SIZE || length > SchematicTranslator.MAX_SIZE) {
+            throw new IllegalArgumentException(String.format(
+                    "Schematic is larger than maximum allowable size (found: (%d, %d, %d) max: (%d, %<d, %<d)", width, height, length,
+                    SchematicTranslator.MAX_SIZE));
+        }
+
+        output.writeByte(NbtDataUtil.TAG_COMPOUND);
+        output.writeUTF("Schematic");
+
+        writeKey(output, NbtDataUtil.TAG_INT, SchematicTranslator.VERSION_KEY);
+        output.writeInt(SchematicTranslator.VERSION);
+        writeKey(output, NbtDataUtil.TAG_COMPOUND, SchematicTranslator.METADATA_KEY);
+        writePayload(output, NbtTranslator.getInstance().translateData(schematic.getMetadata()), 0);
+        writeKey(output, NbtDataUtil.TAG_SHORT, SchematicTranslator.WIDTH_KEY);
+        output.writeShort(width);
+        writeKey(output, NbtDataUtil.TAG_SHORT, SchematicTranslator.HEIGHT_KEY);
+        output.writeShort(height);
+        writeKey(output, NbtDataUtil.TAG_SHORT, SchematicTranslator.LENGTH_KEY);
+        output.writeShort(length);
+        writeKey(output, NbtDataUtil.TAG_INT_ARRAY, SchematicTranslator.OFFSET_KEY);
+        output.writeInt(3);
+        output.writeInt(-xMin);
+        output.writeInt(-yMin);
+        output.writeInt(-zMin);
+
+        // The array length has to be known before the first byte can be
+        // written, so the volume is walked twice instead of buffering the
+        // encoded data. The first pass also assigns all palette ids.
+        final BlockPalette palette = schematic.getPalette();
+        int encodedLength = 0;
+        for (int y = 0; y < height; y++) {
+            for (int z = 0; z < length; z++) {
+                for (int x = 0; x < width; x++) {
+                    encodedLength += varIntSize(palette.getOrAssign(schematic.getBlock(xMin + x, yMin + y, zMin + z)));
+                }
+            }
+        }
+        writeKey(output, NbtDataUtil.TAG_BYTE_ARRAY, SchematicTranslator.BLOCK_DATA_KEY);
+        output.writeInt(encodedLength);
+        final byte[] chunk = new byte[CHUNK_SIZE];
+        int position = 0;
+        for (int y = 0; y < height; y++) {
+            for (int z = 0; z < length; z++) {
+                for (int x = 0; x < width; x++) {
+                    if (position > chunk.length - 5) {
+                        output.write(chunk, 0, position);
+                        position = 0;
+                    }
+                    int id = palette.getOrAssign(schematic.getBlock(xMin + x, yMin + y, zMin + z));
+                    while ((id & -128) != 0) {
+                        chunk[position++] = (byte) (id & 127 | 128);
+                        id >>>= 7;
+                    }
+                    chunk[position++] = (byte) id;
+                }
+            }
+        }
+        output.write(chunk, 0, position);
+
+        if (palette.getType() == BlockPaletteTypes.LOCAL) {
+            writeKey(output, NbtDataUtil.TAG_COMPOUND, SchematicTranslator.PALETTE_KEY);
+            for (BlockState state : palette.getEntries()) {
+                // getOrAssign to skip the optional, it will never assign
+                writeKey(output, NbtDataUtil.TAG_INT, state.getId());
+                output.writeInt(palette.getOrAssign(state));
+            }
+            output.writeByte(NbtDataUtil.TAG_END);
+            writeKey(output, NbtDataUtil.TAG_INT, SchematicTranslator.PALETTE_MAX_KEY);
+            output.writeInt(palette.getHighestId());
+        }
+
+        final List<DataView> tileEntities = SchematicTranslator.writeTileEntities(schematic, xMin, yMin, zMin);
+        writeKey(output, NbtDataUtil.TAG_LIST, SchematicTranslator.TILEENTITY_DATA_KEY);
+        output.writeByte(tileEntities.isEmpty() ? NbtDataUtil.TAG_END : NbtDataUtil.TAG_COMPOUND);
+        output.writeInt(tileEntities.size());
+        for (DataView tile : tileEntities) {
+            writePayload(output, NbtTranslator.getInstance().translateData(tile), 0);
+        }
+
+        output.writeByte(NbtDataUtil.TAG_END);
+    }
+
+    private static int varIntSize(int value) {
+        int size = 1;
+        while ((value & -128) != 0) {
+            size++;
+            value >>>= 7;
+        }
+        return size;
+    }
+
+    private static int readNumber(DataInput input, byte type) throws IOException {
+        switch (type) {
+            case NbtDataUtil.TAG_BYTE:
+                return input.readByte();
+            case NbtDataUtil.TAG_SHORT:
+                return input.readShort();
+            case NbtDataUtil.TAG_INT:
+                return input.readInt();
+            default:
+                throw new InvalidDataException("Expected a numeric tag but found type " + type);
+        }
+    }
+
+    private static Map<String, Integer> readPalette(DataInput input) throws IOException {
+        final Map<String, Integer> entries = Maps.newHashMap();
+        byte type;
+        while ((type = input.readByte()) != NbtDataUtil.TAG_END) {
+            entries.put(input.readUTF(), readNumber(input, type));
+        }
+        return entries;
+    }
+
+    private static void writeKey(DataOutput output, byte type, String key) throws IOException {
+        output.writeByte(type);
+        output.writeUTF(key);
+    }
+
+    private static NBTBase readTag(DataInput input, byte type, int depth) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw new InvalidDataException("Tried to read NBT tag with too high complexity, depth > " + MAX_DEPTH);
+        }
+        switch (type) {
+            case NbtDataUtil.TAG_BYTE:
+                return new NBTTagByte(input.readByte());
+            case NbtDataUtil.TAG_SHORT:
+                return new NBTTagShort(input.readShort());
+            case NbtDataUtil.TAG_INT:
+                return new NBTTagInt(input.readInt());
+            case NbtDataUtil.TAG_LONG:
+                return new NBTTagLong(input.readLong());
+            case NbtDataUtil.TAG_FLOAT:
+                return new NBTTagFloat(input.readFloat());
+            case NbtDataUtil.TAG_DOUBLE:
+                return new NBTTagDouble(input.readDouble());
+            case NbtDataUtil.TAG_BYTE_ARRAY: {
+                final byte[] bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+                return new NBTTagByteArray(bytes);
+            }
+            case NbtDataUtil.TAG_STRING:
+                return new NBTTagString(input.readUTF());
+            case NbtDataUtil.TAG_LIST: {
+                final byte listType = input.readByte();
+                final int count = input.readInt();
+                final NBTTagList list = new NBTTagList();
+                for (int i = 0; i < count; i++) {
+                    list.appendTag(readTag(input, listType, depth + 1));
+                }
+                return list;
+            }
+            case NbtDataUtil.TAG_COMPOUND: {
+                final NBTTagCompound compound = new NBTTagCompound();
+                byte childType;
+                while ((childType = input.readByte()) != NbtDataUtil.TAG_END) {
+                    final String key = input.readUTF();
+                    compound.setTag(key, readTag(input, childType, depth + 1));
+                }
+                return compound;
+            }
+            case NbtDataUtil.TAG_INT_ARRAY: {
+                final int[] ints = new int[input.readInt()];
+                for (int i = 0; i < ints.length; i++) {
+                    ints[i] = input.readInt();
+                }
+                return new NBTTagIntArray(ints);
+            }
+            default:
+                throw new InvalidDataException("Unknown NBT type " + type);
+        }
+    }
+
+    private static void skipTag(DataInput input, byte type, int depth) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw new InvalidDataException("Tried to read NBT tag with too high complexity, depth > " + MAX_DEPTH);
+        }
+        switch (type) {
+            case NbtDataUtil.TAG_BYTE:
+                input.skipBytes(1);
+                break;
+            case NbtDataUtil.TAG_SHORT:
+                input.skipBytes(2);
+                break;
+            case NbtDataUtil.TAG_INT:
+            case NbtDataUtil.TAG_FLOAT:
+                input.skipBytes(4);
+                break;
+            case NbtDataUtil.TAG_LONG:
+            case NbtDataUtil.TAG_DOUBLE:
+                input.skipBytes(8);
+                break;
+            case NbtDataUtil.TAG_BYTE_ARRAY:
+                skipFully(input, input.readInt());
+                break;
+            case NbtDataUtil.TAG_STRING:
+                skipFully(input, input.readUnsignedShort());
+                break;
+            case NbtDataUtil.TAG_LIST: {
+                final byte listType = input.readByte();
+                final int count = input.readInt();
+                for (int i = 0; i < count; i++) {
+                    skipTag(input, listType, depth + 1);
+                }
+                break;
+            }
+            case NbtDataUtil.TAG_COMPOUND: {
+                byte childType;
+                while ((childType = input.readByte()) != NbtDataUtil.TAG_END) {
+                    input.readUTF();
+                    skipTag(input, childType, depth + 1);
+                }
+                break;
+            }
+            case NbtDataUtil.TAG_INT_ARRAY:
+                skipFully(input, input.readInt() * 4L);
+                break;
+            default:
+                throw new InvalidDataException("Unknown NBT type " + type);
+        }
+    }
+
+    private static void skipFully(DataInput input, long bytes) throws IOException {
+        while (bytes > 0) {
+            final int skipped = input.skipBytes((int) Math.min(bytes, Integer.MAX_VALUE));
+            if (skipped <= 0) {
+                // skipBytes may give up early, readByte will throw at the end of the stream
+                input.readByte();
+                bytes--;
+            } else {
+                bytes -= skipped;
+            }
+        }
+    }
+
+    private static void writePayload(DataOutput output, NBTBase tag, int depth) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Tried to write NBT tag with too high complexity, depth > " + MAX_DEPTH);
+        }
+        switch (tag.getId()) {
+            case NbtDataUtil.TAG_BYTE:
+                output.writeByte(((NBTTagByte) tag).getByte());
+                break;
+            case NbtDataUtil.TAG_SHORT:
+                output.writeShort(((NBTTagShort) tag).getShort());
+                break;
+            case NbtDataUtil.TAG_INT:
+                output.writeInt(((NBTTagInt) tag).getInt());
+                break;
+            case NbtDataUtil.TAG_LONG:
+                output.writeLong(((NBTTagLong) tag).getLong());
+                break;
+            case NbtDataUtil.TAG_FLOAT:
+                output.writeFloat(((NBTTagFloat) tag).getFloat());
+                break;
+            case NbtDataUtil.TAG_DOUBLE:
+                output.writeDouble(((NBTTagDouble) tag).getDouble());
+                break;
+            case NbtDataUtil.TAG_BYTE_ARRAY: {
+                final byte[] bytes = ((NBTTagByteArray) tag).getByteArray();
+                output.writeInt(bytes.length);
+                output.write(bytes);
+                break;
+            }
+            case NbtDataUtil.TAG_STRING:
+                output.writeUTF(((NBTTagString) tag).getString());
+                break;
+            case NbtDataUtil.TAG_LIST: {
+                final NBTTagList list = (NBTTagList) tag;
+                output.writeByte(list.tagCount() == 0 ? NbtDataUtil.TAG_END : list.getTagType());
+                output.writeInt(list.tagCount());
+                for (int i = 0; i < list.tagCount(); i++) {
+                    writePayload(output, list.get(i), depth + 1);
+                }
+                break;
+            }
+            case NbtDataUtil.TAG_COMPOUND: {
+                final NBTTagCompound compound = (NBTTagCompound) tag;
+                for (String key : compound.getKeySet()) {
+                    final NBTBase child = compound.getTag(key);
+                    writeKey(output, child.getId(), key);
+                    writePayload(output, child, depth + 1);
+                }
+                output.writeByte(NbtDataUtil.TAG_END);
+                break;
+            }
+            case NbtDataUtil.TAG_INT_ARRAY: {
+                final int[] ints = ((NBTTagIntArray) tag).getIntArray();
+                output.writeInt(ints.length);
+                for (int value : ints) {
+                    output.writeInt(value);
+                }
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown NBT type " + tag.getId());
+        }
+    }
+
+    /**
+     * Decodes the VarInt encoded block data of a schematic in bulk into the
+     * packed array backing an {@link ArrayMutableBlockBuffer}. The data may
+     * be fed in arbitrary slices, a VarInt split across two slices is
+     * carried over. The narrowest array type is used, widening only once an
+     * id is found that does not fit.
+     */
+    static final class PackedBlockData {
+
+        private final int width;
+        private final int height;
+        private final int length;
+        private final int volume;
+
+        private byte[] bytes;
+        private char[] chars;
+        private int[] ints;
+
+        private int count;
+        private int x;
+        private int y;
+        private int z;
+        private int value;
+        private int shift;
+
+        PackedBlockData(int width, int height, int length, int paletteMax) {
+            this.width = width;
+            this.height = height;
+            this.length = length;
+            this.volume = width * height * length;
+            if (paletteMax <= 0xFF) {
+                this.bytes = new byte[this.volume];
+            } else if (paletteMax <= 0xFFFF) {
+                this.chars = new char[this.volume];
+            } else {
+                this.ints = new int[this.volume];
+            }
+        }
+
+        void accept(byte[] data, int offset, int len) {
+            for (int i = offset, end = offset + len; i < end; i++) {
+                final byte b = data[i];
+                this.value |= (b & 127) << this.shift;
+                if ((b & 128) == 128) {
+                    this.shift += 7;
+                    if (this.shift >= 35) {
+                        throw new InvalidDataException("VarInt too big (probably corrupted data)");
+                    }
+                    continue;
+                }
+                put(this.value);
+                this.value = 0;
+                this.shift = 0;
+            }
+        }
+
+        void finish() {
+            if (this.shift != 0) {
+                throw new InvalidDataException("Schematic block data ended in the middle of a VarInt");
+            }
+        }
+
+        ArrayMutableBlockBuffer toBuffer(BlockPalette palette, Vector3i start) {
+            final Vector3i size = new Vector3i(this.width, this.height, this.length);
+            if (this.bytes != null) {
+                return new ArrayMutableBlockBuffer(palette, start, size, this.bytes);
+            } else if (this.chars != null) {
+                return new ArrayMutableBlockBuffer(palette, start, size, this.chars);
+            }
+            return new ArrayMutableBlockBuffer(palette, start, size, this.ints);
+        }
+
+        private void put(int id) {
+            if (this.count++ >= this.volume) {
+                throw new InvalidDataException("Schematic block data is larger than its dimensions");
+            }
+            // The schematic is ordered y, z, x while the buffer is ordered x, z, y
+            final int index = (this.x * this.length + this.z) * this.height + this.y;
+            if (this.bytes != null && (id & ~0xFF) != 0 || this.chars != null && (id & ~0xFFFF) != 0) {
+                widen(id);
+            }
+            if (this.bytes != null) {
+                this.bytes[index] = (byte) id;
+            } else if (this.chars != null) {
+                this.chars[index] = (char) id;
+            } else {
+                this.ints[index] = id;
+            }
+            if (++this.x == this.width) {
+                this.x = 0;
+                if (++this.z == this.length) {
+                    this.z = 0;
+                    this.y++;
+                }
+            }
+        }
+
+        private void widen(int id) {
+            if ((id & ~0xFFFF) == 0) {
+                this.chars = new char[this.volume];
+                for (int i = 0; i < this.volume; i++) {
+                    this.chars[i] = (char) (this.bytes[i] & 0xFF);
+                }
+                this.bytes = null;
+                return;
+            }
+            this.ints = new int[this.volume];
+            for (int i = 0; i < this.volume; i++) {
+                this.ints[i] = this.bytes != null ? this.bytes[i] & 0xFF : this.chars[i];
+            }
+            this.bytes = null;
+            this.chars = null;
+        }
+    }
+
+}
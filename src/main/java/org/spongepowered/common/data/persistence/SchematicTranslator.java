@@ -28,6 +28,8 @@
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.reflect.TypeToken;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.Unpooled;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.ResourceLocation;
 import org.spongepowered.api.Sponge;
@@ -44,28 +46,51 @@
 import org.spongepowered.api.world.schematic.BlockPalette;
 import org.spongepowered.api.world.schematic.BlockPaletteTypes;
 import org.spongepowered.api.world.schematic.Schematic;
-import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.block.SpongeTileEntityArchetypeBuilder;
 import org.spongepowered.common.data.util.DataQueries;
 import org.spongepowered.common.registry.type.block.TileEntityTypeRegistryModule;
-import org.spongepowered.common.util.gen.ArrayMutableBlockBuffer;
-import org.spongepowered.common.util.gen.ArrayMutableBlockBuffer.BackingDataType;
 import org.spongepowered.common.world.schematic.BimapPalette;
 import org.spongepowered.common.world.schematic.GlobalPalette;
 import org.spongepowered.common.world.schematic.SpongeSchematic;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import javax.annotation.Nullable;
 
 public class SchematicTranslator implements DataTranslator<Schematic> {
 
     private static final SchematicTranslator INSTANCE = new SchematicTranslator();
     private static final TypeToken<Schematic> TYPE_TOKEN = TypeToken.of(Schematic.class);
-    private static final int VERSION = 1;
-    private static final int MAX_SIZE = 65535;
+    static final int VERSION = 1;
+    static final int MAX_SIZE = 65535;
+
+    static final String VERSION_KEY = DataQueries.Schematic.VERSION.asString('.');
+    static final String METADATA_KEY = DataQueries.Schematic.METADATA.asString('.');
+    static final String WIDTH_KEY = DataQueries.Schematic.WIDTH.asString('.');
+    static final String HEIGHT_KEY = DataQueries.Schematic.HEIGHT.asString('.');
+    static final String LENGTH_KEY = DataQueries.Schematic.LENGTH.asString('.');
+    static final String OFFSET_KEY = DataQueries.Schematic.OFFSET.asString('.');
+    static final String PALETTE_KEY = DataQueries.Schematic.PALETTE.asString('.');
+    static final String PALETTE_MAX_KEY = DataQueries.Schematic.PALETTE_MAX.asString('.');
+    static final String BLOCK_DATA_KEY = DataQueries.Schematic.BLOCK_DATA.asString('.');
+    static final String TILEENTITY_DATA_KEY = DataQueries.Schematic.TILEENTITY_DATA.asString('.');
+
+    private static final int GZIP_MAGIC = 0x1f8b;
 
     public static SchematicTranslator get() {
         return INSTANCE;
@@ -100,13 +125,10 @@ public Schematic translate(DataView view) throws InvalidDataException {
         DataView metadata = view.getView(DataQueries.Schematic.METADATA).orElse(null);
 
         // TODO error handling for these optionals
-        int width = view.getShort(DataQueries.Schematic.WIDTH).get();
-        int height = view.getShort(DataQueries.Schematic.HEIGHT).get();
-        int length = view.getShort(DataQueries.Schematic.LENGTH).get();
-        if (width > MAX_SIZE || height > MAX_SIZE || length > MAX_SIZE) {
-            throw new InvalidDataException(String.format("Schematic is larger than maximum allowable size (found: (%d, %d, %d) max: (%d, %<d, %<d)",
-                    width, height, length, MAX_SIZE));
-        }
+        int width = view.getShort(DataQueries.Schematic.WIDTH).get() & 0xFFFF;
+        int height = view.getShort(DataQueries.Schematic.HEIGHT).get() & 0xFFFF;
+        int length = view.getShort(DataQueries.Schematic.LENGTH).get() & 0xFFFF;
+        checkSize(width, height, length);
 
         int[] offset = (int[]) view.get(DataQueries.Schematic.OFFSET).orElse(null);
         if (offset == null) {
@@ -115,80 +137,29 @@ public Schematic translate(DataView view) throws InvalidDataException {
         if (offset.length != 3) {
             throw new InvalidDataException("Schematic offset was not of length 3");
         }
-        BlockPalette palette;
+        Map<String, Integer> paletteEntries = null;
         Optional<DataView> paletteData = view.getView(DataQueries.Schematic.PALETTE);
         int palette_max = view.getInt(DataQueries.Schematic.PALETTE_MAX).orElse(0xFFFF);
         if (paletteData.isPresent()) {
-            // If we had a default palette_max we don't want to allocate all
-            // that space for nothing so we use a sensible default instead
-            palette = new BimapPalette(palette_max != 0xFFFF ? palette_max : 64);
+            paletteEntries = Maps.newHashMap();
             DataView paletteMap = paletteData.get();
             Set<DataQuery> paletteKeys = paletteMap.getKeys(false);
             for (DataQuery key : paletteKeys) {
-                BlockState state = Sponge.getRegistry().getType(BlockState.class, key.getParts().get(0)).get();
-                ((BimapPalette) palette).assign(state, paletteMap.getInt(key).get());
+                paletteEntries.put(key.getParts().get(0), paletteMap.getInt(key).get());
             }
-        } else {
-            palette = GlobalPalette.instance;
-        }
-
-        BackingDataType dataType;
-        if (palette_max <= 0xFF) {
-            dataType = BackingDataType.BYTE;
-        } else if (palette_max <= 0xFF) {
-            dataType = BackingDataType.CHAR;
-        } else {
-            dataType = BackingDataType.INT;
         }
-        MutableBlockVolume buffer =
-                new ArrayMutableBlockBuffer(palette, new Vector3i(-offset[0], -offset[1], -offset[2]), new Vector3i(width, height, length), dataType);
+        BlockPalette palette = createPalette(paletteEntries, palette_max);
 
         byte[] blockdata = (byte[]) view.get(DataQueries.Schematic.BLOCK_DATA).get();
-        int index = 0;
-        int i = 0;
-        int value = 0;
-        int varint_length = 0;
-        while (i < blockdata.length) {
-            value = 0;
-            varint_length = 0;
-
-            while (true) {
-                value |= (blockdata[i] & 127) << (varint_length++ * 7);
-                if (varint_length > 5) {
-                    throw new RuntimeException("VarInt too big (probably corrupted data)");
-                }
-                if ((blockdata[i] & 128) != 128) {
-                    i++;
-                    break;
-                }
-                i++;
-            }
-            // index = (y * length + z) * width + x
-            int y = index / (width * length);
-            int z = (index % (width * length)) / width;
-            int x = (index % (width * length)) % width;
-            BlockState state = palette.get(value).get();
-            buffer.setBlock(x - offset[0], y - offset[1], z - offset[2], state, SpongeImpl.getImplementationCause());
-
-            index++;
-        }
+        SchematicStreamCodec.PackedBlockData packed = new SchematicStreamCodec.PackedBlockData(width, height, length, palette_max);
+        packed.accept(blockdata, 0, blockdata.length);
+        packed.finish();
+        MutableBlockVolume buffer = packed.toBuffer(palette, new Vector3i(-offset[0], -offset[1], -offset[2]));
+
         Map<Vector3i, TileEntityArchetype> tiles = Maps.newHashMap();
         List<DataView> tiledata = view.getViewList(DataQueries.Schematic.TILEENTITY_DATA).orElse(null);
         if (tiledata != null) {
-            for (DataView tile : tiledata) {
-                int[] pos = (int[]) tile.get(DataQueries.Schematic.TILEENTITY_POS).get();
-                if (offset.length != 3) {
-                    throw new InvalidDataException("Schematic tileentity pos was not of length 3");
-                }
-                TileEntityType type = TileEntityTypeRegistryModule.getInstance()
-                        .getForClass(TileEntity.REGISTRY.getObject(new ResourceLocation(tile.getString(DataQuery.of("id")).get())));
-                TileEntityArchetype archetype = new SpongeTileEntityArchetypeBuilder()
-                        .state(buffer.getBlock(pos[0] - offset[0], pos[1] - offset[1], pos[2] - offset[2]))
-                        .tileData(tile)
-                        .tile(type)
-                        .build();
-                tiles.put(new Vector3i(pos[0] - offset[0], pos[1] - offset[1], pos[2] - offset[2]), archetype);
-            }
+            readTileEntities(tiledata, buffer, offset, tiles);
         }
 
         Schematic schematic = new SpongeSchematic(buffer, tiles, metadata);
@@ -251,6 +222,102 @@ public DataContainer translate(Schematic schematic) throws InvalidDataException
             }
             data.set(DataQueries.Schematic.PALETTE_MAX, palette.getHighestId());
         }
+        List<DataView> tileEntities = writeTileEntities(schematic, xMin, yMin, zMin);
+        data.set(DataQueries.Schematic.TILEENTITY_DATA, tileEntities);
+
+        return data;
+    }
+
+    /**
+     * Reads a schematic from an uncompressed NBT stream. The block data is
+     * decoded in bulk while it is read and no intermediate
+     * {@link DataContainer} is built for it.
+     *
+     * @param input The stream to read from
+     * @return The schematic
+     * @throws IOException If the stream could not be read
+     * @throws InvalidDataException If the stream is not a valid schematic
+     */
+    public Schematic read(InputStream input) throws IOException, InvalidDataException {
+        return SchematicStreamCodec.read(input instanceof DataInputStream ? (DataInputStream) input : new DataInputStream(input));
+    }
+
+    /**
+     * Reads a schematic from a file, which may or may not be gzip
+     * compressed. Uncompressed files are memory mapped and read in place.
+     *
+     * @param path The file to read
+     * @return The schematic
+     * @throws IOException If the file could not be read
+     * @throws InvalidDataException If the file is not a valid schematic
+     */
+    public Schematic read(Path path) throws IOException, InvalidDataException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (mapped.remaining() >= 2 && (mapped.getShort(0) & 0xFFFF) == GZIP_MAGIC) {
+                try (InputStream input = new BufferedInputStream(new GZIPInputStream(new ByteBufInputStream(Unpooled.wrappedBuffer(mapped))))) {
+                    return read(input);
+                }
+            }
+            return read(new ByteBufInputStream(Unpooled.wrappedBuffer(mapped)));
+        }
+    }
+
+    /**
+     * Writes a schematic as uncompressed NBT to the given stream without
+     * building a {@link DataContainer} for its block data. The stream is not
+     * closed.
+     *
+     * @param schematic The schematic to write
+     * @param output The stream to write to
+     * @throws IOException If the stream could not be written to
+     */
+    public void write(Schematic schematic, OutputStream output) throws IOException {
+        DataOutputStream dos = output instanceof DataOutputStream ? (DataOutputStream) output : new DataOutputStream(output);
+        SchematicStreamCodec.write(schematic, dos);
+        dos.flush();
+    }
+
+    static void checkSize(int width, int height, int length) {
+        if (width > MAX_SIZE || height > MAX_SIZE || length > MAX_SIZE) {
+            throw new InvalidDataException(String.format("Schematic is larger than maximum allowable size (found: (%d, %d, %d) max: (%d, %<d, %<d)",
+                    width, height, length, MAX_SIZE));
+        }
+    }
+
+    static BlockPalette createPalette(@Nullable Map<String, Integer> entries, int paletteMax) {
+        if (entries == null) {
+            return GlobalPalette.instance;
+        }
+        // If we had a default palette_max we don't want to allocate all
+        // that space for nothing so we use a sensible default instead
+        BimapPalette palette = new BimapPalette(paletteMax != 0xFFFF ? paletteMax : 64);
+        for (Map.Entry<String, Integer> entry : entries.entrySet()) {
+            BlockState state = Sponge.getRegistry().getType(BlockState.class, entry.getKey())
+                    .orElseThrow(() -> new InvalidDataException("Unknown block state in schematic palette: " + entry.getKey()));
+            palette.assign(state, entry.getValue());
+        }
+        return palette;
+    }
+
+    static void readTileEntities(List<DataView> tiledata, MutableBlockVolume buffer, int[] offset, Map<Vector3i, TileEntityArchetype> tiles) {
+        for (DataView tile : tiledata) {
+            int[] pos = (int[]) tile.get(DataQueries.Schematic.TILEENTITY_POS).get();
+            if (pos.length != 3) {
+                throw new InvalidDataException("Schematic tileentity pos was not of length 3");
+            }
+            TileEntityType type = TileEntityTypeRegistryModule.getInstance()
+                    .getForClass(TileEntity.REGISTRY.getObject(new ResourceLocation(tile.getString(DataQuery.of("id")).get())));
+            TileEntityArchetype archetype = new SpongeTileEntityArchetypeBuilder()
+                    .state(buffer.getBlock(pos[0] - offset[0], pos[1] - offset[1], pos[2] - offset[2]))
+                    .tileData(tile)
+                    .tile(type)
+                    .build();
+            tiles.put(new Vector3i(pos[0] - offset[0], pos[1] - offset[1], pos[2] - offset[2]), archetype);
+        }
+    }
+
+    static List<DataView> writeTileEntities(Schematic schematic, int xMin, int yMin, int zMin) {
         List<DataView> tileEntities = Lists.newArrayList();
         for (Map.Entry<Vector3i, TileEntityArchetype> entry : schematic.getTileEntityArchetypes().entrySet()) {
             Vector3i pos = entry.getKey();
@@ -263,9 +330,7 @@ public DataContainer translate(Schematic schematic) throws InvalidDataException
             }
             tileEntities.add(tiledata);
         }
-        data.set(DataQueries.Schematic.TILEENTITY_DATA, tileEntities);
-
-        return data;
+        return tileEntities;
     }
 
 }
@@ -26,10 +26,13 @@
 
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3f;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.item.EntityFireworkRocket;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.init.Items;
 import net.minecraft.item.Item;
 import net.minecraft.network.Packet;
@@ -42,9 +45,12 @@
 import net.minecraft.network.play.server.SPacketSpawnObject;
 import net.minecraft.potion.Potion;
 import net.minecraft.potion.PotionType;
+import net.minecraft.server.management.PlayerChunkMap;
+import net.minecraft.server.management.PlayerChunkMapEntry;
 import net.minecraft.util.EnumParticleTypes;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.WorldServer;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.data.type.NotePitch;
@@ -55,9 +61,11 @@
 import org.spongepowered.api.item.inventory.ItemStackSnapshot;
 import org.spongepowered.api.util.Color;
 import org.spongepowered.api.util.Direction;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.data.processor.common.FireworkUtils;
 import org.spongepowered.common.data.type.SpongeNotePitch;
 import org.spongepowered.common.item.inventory.SpongeItemStackSnapshot;
+import org.spongepowered.common.network.EncodedPackets;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -90,6 +98,58 @@ public static List<Packet<?>> toPackets(SpongeParticleEffect effect, Vector3d po
         return packets;
     }
 
+    /**
+     * Sends the packets of a particle effect to all the players in the world
+     * within the radius of the position. Recipients are looked up once for
+     * all the packets, through the players watching the chunk of the position
+     * when the radius is within the view distance, and every packet is only
+     * serialized once for all recipients.
+     *
+     * @param world The world
+     * @param packets The packets, from {@link #toPackets}
+     * @param position The position
+     * @param radius The radius
+     */
+    public static void sendToNearbyPlayers(WorldServer world, List<Packet<?>> packets, Vector3d position, int radius) {
+        final List<? extends EntityPlayer> candidates;
+        final PlayerChunkMap playerChunkMap = world.getPlayerChunkMap();
+        // Anyone within the radius is at most (radius >> 4) + 1 chunks away, the chunk map
+        // only moves a player once they are 8 blocks from their managed position, so allow
+        // one more chunk for the watchers to be sure they include everyone in range
+        if ((radius >> 4) + 2 <= playerChunkMap.playerViewRadius) {
+            final PlayerChunkMapEntry entry = playerChunkMap.getEntry(
+                    MathHelper.floor(position.getX()) >> 4, MathHelper.floor(position.getZ()) >> 4);
+            if (entry == null) {
+                return;
+            }
+            candidates = entry.players;
+        } else {
+            candidates = world.playerEntities;
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        final double maxDistanceSquared = (double) radius * (double) radius;
+        final boolean deferFlush = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useParticleFlushCoalescing();
+        ByteBuf[] encoded = null;
+        for (int i = 0; i < candidates.size(); i++) {
+            final EntityPlayerMP player = (EntityPlayerMP) candidates.get(i);
+            if (player.getDistanceSq(position.getX(), position.getY(), position.getZ()) >= maxDistanceSquared) {
+                continue;
+            }
+            if (encoded == null) {
+                encoded = new ByteBuf[packets.size()];
+                for (int j = 0; j < encoded.length; j++) {
+                    encoded[j] = EncodedPackets.encode(packets.get(j));
+                }
+            }
+            for (int j = 0; j < encoded.length; j++) {
+                EncodedPackets.send(player, packets.get(j), encoded[j], deferFlush);
+            }
+        }
+    }
+
     private static int getBlockState(SpongeParticleEffect effect, Optional<BlockState> defaultBlockState) {
         Optional<BlockState> blockState = effect.getOption(ParticleOptions.BLOCK_STATE);
         if (blockState.isPresent()) {
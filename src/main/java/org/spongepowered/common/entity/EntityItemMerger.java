@@ -0,0 +1,113 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.common.interfaces.entity.item.IMixinEntityItem;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Merges the item entities of a world in a single pass, instead of letting
+ * every item search its surroundings on its own.
+ *
+ * <p>Items are bucketed into cells at least as wide as the merge distance,
+ * so each item only has to be compared with the items of its own and the
+ * neighbouring cells. Whether two items merge is still decided by vanilla,
+ * so the result matches what per-item searching would have done.</p>
+ */
+public final class EntityItemMerger {
+
+    private EntityItemMerger() {
+    }
+
+    public static void mergeItems(WorldServer world, double radius) {
+        final List<EntityItem> items = new ArrayList<>();
+        for (Entity entity : world.loadedEntityList) {
+            if (entity instanceof EntityItem && !entity.isDead) {
+                items.add((EntityItem) entity);
+            }
+        }
+        if (items.size() < 2) {
+            return;
+        }
+
+        // Item bounding boxes are 0.25 wide, so two items within the radius are never more than one cell apart
+        final double cellSize = Math.max(1.0D, radius + 0.5D);
+        final Long2ObjectMap<List<EntityItem>> cells = new Long2ObjectOpenHashMap<>();
+        for (EntityItem item : items) {
+            final long key = cellKey(MathHelper.floor(item.posX / cellSize), MathHelper.floor(item.posY / cellSize),
+                    MathHelper.floor(item.posZ / cellSize));
+            List<EntityItem> cell = cells.get(key);
+            if (cell == null) {
+                cell = new ArrayList<>(4);
+                cells.put(key, cell);
+            }
+            cell.add(item);
+        }
+
+        for (EntityItem item : items) {
+            if (item.isDead) {
+                continue;
+            }
+            // Same area as EntityItem#searchForOtherItemsNearby
+            final AxisAlignedBB searchBox = item.getEntityBoundingBox().expand(radius, 0.0D, radius);
+            final int cellX = MathHelper.floor(item.posX / cellSize);
+            final int cellY = MathHelper.floor(item.posY / cellSize);
+            final int cellZ = MathHelper.floor(item.posZ / cellSize);
+            search:
+            for (int x = cellX - 1; x <= cellX + 1; x++) {
+                for (int y = cellY - 1; y <= cellY + 1; y++) {
+                    for (int z = cellZ - 1; z <= cellZ + 1; z++) {
+                        final List<EntityItem> cell = cells.get(cellKey(x, y, z));
+                        if (cell == null) {
+                            continue;
+                        }
+                        for (EntityItem other : cell) {
+                            if (other == item || other.isDead || !other.getEntityBoundingBox().intersectsWith(searchBox)) {
+                                continue;
+                            }
+                            ((IMixinEntityItem) item).combineWith(other);
+                            if (item.isDead) {
+                                break search;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static long cellKey(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFFL) << 38 | ((long) y & 0xFFFL) << 26 | (long) z & 0x3FFFFFFL;
+    }
+}
@@ -904,13 +904,16 @@ public static EntityItem entityOnDropItem(Entity entity, ItemStack itemStack, fl
             if (CauseTracker.ENABLED && !currentState.getPhase().ignoresItemPreMerging(currentState) && SpongeImpl.getGlobalConfig().getConfig().getOptimizations().doDropsPreMergeItemDrops()) {
                 if (currentState.tracksEntitySpecificDrops()) {
                     final Multimap<UUID, ItemDropData> multimap = phaseContext.getCapturedEntityDropSupplier().get();
-                    final Collection<ItemDropData> itemStacks = multimap.get(entity.getUniqueID());
+                    final Collection<ItemDropData> itemStacks = mixinWorldServer.getCauseTracker().getItemDropMerger()
+                            .getDrops(multimap, entity.getUniqueID(), multimap.get(entity.getUniqueID()));
                     SpongeImplHooks.addItemStackToListForSpawning(itemStacks, ItemDropData.item(item)
                             .position(new Vector3d(posX, posY, posZ))
                             .build());
                     return null;
                 } else {
-                    final List<ItemDropData> itemStacks = phaseContext.getCapturedItemStackSupplier().get();
+                    final List<ItemDropData> capturedStacks = phaseContext.getCapturedItemStackSupplier().get();
+                    final Collection<ItemDropData> itemStacks = mixinWorldServer.getCauseTracker().getItemDropMerger()
+                            .getDrops(capturedStacks);
                     SpongeImplHooks.addItemStackToListForSpawning(itemStacks, ItemDropData.item(item)
                             .position(new Vector3d(posX, posY, posZ))
                             .build());
@@ -977,7 +980,8 @@ public static EntityItem playerDropItem(IMixinEntityPlayer mixinPlayer, ItemStac
         if (CauseTracker.ENABLED && !currentState.getPhase().ignoresItemPreMerging(currentState) && SpongeImpl.getGlobalConfig().getConfig().getOptimizations().doDropsPreMergeItemDrops()) {
             if (currentState.tracksEntitySpecificDrops()) {
                 final Multimap<UUID, ItemDropData> multimap = phaseContext.getCapturedEntityDropSupplier().get();
-                final Collection<ItemDropData> itemStacks = multimap.get(player.getUniqueID());
+                final Collection<ItemDropData> itemStacks = mixinWorldServer.getCauseTracker().getItemDropMerger()
+                        .getDrops(multimap, player.getUniqueID(), multimap.get(player.getUniqueID()));
                 SpongeImplHooks.addItemStackToListForSpawning(itemStacks, ItemDropData.Player.player(player)
                         .stack(item)
                         .trace(traceItem)
@@ -987,7 +991,9 @@ public static EntityItem playerDropItem(IMixinEntityPlayer mixinPlayer, ItemStac
                         .build());
                 return null;
             } else {
-                final List<ItemDropData> itemStacks = phaseContext.getCapturedItemStackSupplier().get();
+                final List<ItemDropData> capturedStacks = phaseContext.getCapturedItemStackSupplier().get();
+                final Collection<ItemDropData> itemStacks = mixinWorldServer.getCauseTracker().getItemDropMerger()
+                        .getDrops(capturedStacks);
                 SpongeImplHooks.addItemStackToListForSpawning(itemStacks, ItemDropData.Player.player(player)
                         .stack(item)
                         .trace(traceItem)
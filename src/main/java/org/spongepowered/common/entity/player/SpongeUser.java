@@ -50,12 +50,14 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.data.util.DataQueries;
 import org.spongepowered.common.data.util.NbtDataUtil;
+import org.spongepowered.common.service.user.UserIndex;
 import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.common.world.storage.PlayerDataWriter;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -124,13 +126,17 @@ public void readFromNbt(NBTTagCompound compound) {
     }
 
     public void writeToNbt(NBTTagCompound compound) {
+        writeToNbt(compound, this.spawnLocations);
+    }
+
+    private static void writeToNbt(NBTTagCompound compound, Map<UUID, RespawnLocation> spawnLocations) {
 
         final NBTTagCompound forgeCompound = compound.getCompoundTag(NbtDataUtil.FORGE_DATA);
         final NBTTagCompound spongeCompound = forgeCompound.getCompoundTag(NbtDataUtil.SPONGE_DATA);
         spongeCompound.removeTag(NbtDataUtil.USER_SPAWN_LIST);
 
         final NBTTagList spawnList = new NBTTagList();
-        for (Entry<UUID, RespawnLocation> entry : this.spawnLocations.entrySet()) {
+        for (Entry<UUID, RespawnLocation> entry : spawnLocations.entrySet()) {
             final RespawnLocation respawn = entry.getValue();
 
             final NBTTagCompound spawnCompound = new NBTTagCompound();
@@ -291,26 +297,41 @@ private void markDirty() {
     }
 
     public void save() {
-        SaveHandler saveHandler = (SaveHandler) WorldManager.getWorldByDimensionId(0).get().getSaveHandler();
-        File dataFile = new File(saveHandler.playersDirectory, getUniqueId() + ".dat");
-        NBTTagCompound tag;
-        if (dataFile.isFile()) {
-            try {
-                tag = CompressedStreamTools.readCompressed(new FileInputStream(dataFile));
-            } catch (IOException ignored) {
-                // Nevermind
+        final Path dataFile = getDataFile();
+        final ImmutableMap<UUID, RespawnLocation> spawns = ImmutableMap.copyOf(this.spawnLocations);
+        dirtyUsers.remove(this);
+        UserIndex.put(this.profile);
+        PlayerDataWriter.submit(dataFile, () -> {
+            NBTTagCompound tag;
+            if (Files.isRegularFile(dataFile)) {
+                try (InputStream stream = Files.newInputStream(dataFile)) {
+                    tag = CompressedStreamTools.readCompressed(stream);
+                } catch (IOException ignored) {
+                    // Nevermind
+                    tag = new NBTTagCompound();
+                }
+            } else {
                 tag = new NBTTagCompound();
             }
-        } else {
-            tag = new NBTTagCompound();
-        }
-        writeToNbt(tag);
-        try {
-            CompressedStreamTools.writeCompressed(tag, new FileOutputStream(dataFile));
-            dirtyUsers.remove(this);
-        } catch (IOException e) {
-            SpongeImpl.getLogger().warn("Failed to save user file [{}]!", dataFile, e);
+            writeToNbt(tag, spawns);
+            return tag;
+        });
+    }
+
+    /**
+     * Saves this user if it has unsaved changes and waits for any pending
+     * write of its data file, so that the file can be read afterwards.
+     */
+    public void flushSave() {
+        if (dirtyUsers.contains(this)) {
+            save();
         }
+        PlayerDataWriter.flush(getDataFile());
+    }
+
+    private Path getDataFile() {
+        SaveHandler saveHandler = (SaveHandler) WorldManager.getWorldByDimensionId(0).get().getSaveHandler();
+        return saveHandler.playersDirectory.toPath().resolve(getUniqueId() + ".dat");
     }
 
 }
@@ -0,0 +1,112 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity.player;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import net.minecraft.entity.player.EntityPlayerMP;
+import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.api.service.user.UserStorageService;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.profile.SpongeProfileManager;
+import org.spongepowered.common.util.SpongeUsernameCache;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves the owners and notifiers tracked on entities and blocks to
+ * {@link User}s. Online players are always returned directly, offline users
+ * are kept in a bounded cache so that repeated lookups for the same
+ * (usually small) set of tracked players don't go through the username
+ * cache, the profile cache and the user storage every time.
+ */
+public final class TrackedUserCache {
+
+    private static final Cache<UUID, User> offlineUsers = CacheBuilder.newBuilder()
+            .maximumSize(1024)
+            .expireAfterAccess(5, TimeUnit.MINUTES)
+            .build();
+
+    /**
+     * Gets the user with the given unique id. If the user isn't known
+     * locally an asynchronous profile lookup is queued and nothing is
+     * returned.
+     *
+     * @param uuid The unique id
+     * @return The user, if available
+     */
+    public static Optional<User> get(UUID uuid) {
+        final EntityPlayerMP player = SpongeImpl.getServer().getPlayerList().getPlayerByUUID(uuid);
+        if (player != null) {
+            return Optional.of((User) player);
+        }
+        final User cached = offlineUsers.getIfPresent(uuid);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        final Optional<User> user = lookup(uuid);
+        if (user.isPresent()) {
+            offlineUsers.put(uuid, user.get());
+        }
+        return user;
+    }
+
+    /**
+     * Removes the cached user with the given unique id, if present.
+     *
+     * @param uuid The unique id
+     */
+    public static void invalidate(UUID uuid) {
+        offlineUsers.invalidate(uuid);
+    }
+
+    private static Optional<User> lookup(UUID uuid) {
+        final UserStorageService userStorageService = SpongeImpl.getGame().getServiceManager().provideUnchecked(UserStorageService.class);
+
+        // check username cache
+        final String username = SpongeUsernameCache.getLastKnownUsername(uuid);
+        if (username != null) {
+            return userStorageService.get(GameProfile.of(uuid, username));
+        }
+
+        // check mojang cache
+        final SpongeProfileManager profileManager = (SpongeProfileManager) SpongeImpl.getGame().getServer().getGameProfileManager();
+        final GameProfile profile = profileManager.getCache().getById(uuid).orElse(null);
+        if (profile != null) {
+            return userStorageService.get(profile);
+        }
+
+        // If we reach this point, queue UUID for async lookup and return empty
+        profileManager.lookupUserAsync(uuid);
+        return Optional.empty();
+    }
+
+    private TrackedUserCache() {
+    }
+
+}
@@ -85,7 +85,7 @@ private CauseStack push(PhaseData tuple) {
     }
 
     CauseStack push(IPhaseState state, PhaseContext context) {
-        return push(new PhaseData(context, state));
+        return push(context.createPhaseData(state));
     }
 
     public void forEach(Consumer<PhaseData> consumer) {
@@ -102,6 +102,10 @@ public final class CauseTracker {
 
     private final CauseStack stack = new CauseStack();
 
+    private final TickPhaseContext.Pool tickContextPool = new TickPhaseContext.Pool();
+
+    private final ItemDropMerger itemDropMerger = new ItemDropMerger();
+
     @Nullable private PhaseData currentProcessingState = null;
 
     public final boolean isVerbose = SpongeImpl.getGlobalConfig().getConfig().getCauseTracker().isVerbose();
@@ -117,6 +121,14 @@ public CauseTracker(WorldServer targetWorld) {
 
     // ----------------- STATE ACCESS ----------------------------------
 
+    TickPhaseContext.Pool getTickContextPool() {
+        return this.tickContextPool;
+    }
+
+    public ItemDropMerger getItemDropMerger() {
+        return this.itemDropMerger;
+    }
+
     public void switchToPhase(IPhaseState state, PhaseContext phaseContext) {
         checkNotNull(state, "State cannot be null!");
         checkNotNull(state.getPhase(), "Phase cannot be null!");
@@ -0,0 +1,232 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import org.spongepowered.common.SpongeImplHooks;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+/**
+ * Merges captured item drops with the drops already captured for the same
+ * owner, such as a block position or an entity.
+ *
+ * <p>Instead of comparing a new drop with every captured drop of the owner,
+ * the last captured drop of each kind which still has room for more items is
+ * indexed. The index of an owner is rebuilt when its drops were changed by
+ * something else than the merger. Each {@link CauseTracker} keeps a merger,
+ * which is reused by all of its phases.</p>
+ */
+public final class ItemDropMerger {
+
+    // The owner of the drops captured in a single list
+    private static final Object LIST_OWNER = new Object();
+
+    private final Map<Object, OwnerIndex> indexes = new HashMap<>();
+    private final Drops drops = new Drops();
+    @Nullable private Object container;
+
+    /**
+     * Gets the drops of the owner, as a collection which the drops added
+     * through {@link SpongeImplHooks#addItemStackToListForSpawning} are
+     * merged in. The returned collection is reused by the next call.
+     *
+     * @param container The object holding the captured drops of all owners
+     * @param owner The owner of the drops, which must not be mutable
+     * @param drops The captured drops of the owner
+     * @return The drops
+     */
+    public Collection<ItemDropData> getDrops(Object container, Object owner, Collection<ItemDropData> drops) {
+        if (this.container != container) {
+            // The drops are now captured by another phase, the indexes don't apply anymore
+            this.container = container;
+            this.indexes.clear();
+        }
+        this.drops.owner = owner;
+        this.drops.captured = drops;
+        return this.drops;
+    }
+
+    /**
+     * Gets the drops captured in the list, as a collection which the drops
+     * added through {@link SpongeImplHooks#addItemStackToListForSpawning}
+     * are merged in. The returned collection is reused by the next call.
+     *
+     * @param drops The captured drops
+     * @return The drops
+     */
+    public Collection<ItemDropData> getDrops(List<ItemDropData> drops) {
+        return this.getDrops(drops, LIST_OWNER, drops);
+    }
+
+    public final class Drops extends AbstractCollection<ItemDropData> {
+
+        @Nullable Object owner;
+        @Nullable Collection<ItemDropData> captured;
+
+        Drops() {
+        }
+
+        /**
+         * Merges the drop with the captured drops of the same kind, only
+         * adding it if there is no room left in them.
+         *
+         * @param data The drop
+         */
+        public void merge(ItemDropData data) {
+            final ItemStack itemStack = data.getStack();
+            if (itemStack.isEmpty()) {
+                return;
+            }
+            OwnerIndex index = ItemDropMerger.this.indexes.get(this.owner);
+            if (index == null) {
+                index = new OwnerIndex();
+                ItemDropMerger.this.indexes.put(this.owner, index);
+            }
+            if (index.expectedSize != this.captured.size()) {
+                index.rebuild(this.captured);
+            }
+            final DropKey key = new DropKey(data);
+            final ItemDropData open = index.openDrops.get(key);
+            if (open != null && !open.getStack().isEmpty()) {
+                final ItemStack existing = open.getStack();
+                final int proposedStackSize = existing.getCount() + itemStack.getCount();
+                final int existingMaxStackSize = existing.getMaxStackSize();
+                if (proposedStackSize <= existingMaxStackSize) {
+                    existing.setCount(proposedStackSize);
+                    itemStack.setCount(0);
+                    if (proposedStackSize == existingMaxStackSize) {
+                        index.openDrops.remove(key);
+                    }
+                    return;
+                }
+                // Fill the existing stack, the rest goes into the new one
+                existing.setCount(existingMaxStackSize);
+                itemStack.setCount(proposedStackSize - existingMaxStackSize);
+            }
+            this.captured.add(data);
+            index.expectedSize = this.captured.size();
+            if (itemStack.getCount() < itemStack.getMaxStackSize()) {
+                index.openDrops.put(key, data);
+            } else {
+                index.openDrops.remove(key);
+            }
+        }
+
+        @Override
+        public boolean add(ItemDropData data) {
+            return this.captured.add(data);
+        }
+
+        @Override
+        public Iterator<ItemDropData> iterator() {
+            return this.captured.iterator();
+        }
+
+        @Override
+        public int size() {
+            return this.captured.size();
+        }
+    }
+
+    private static final class OwnerIndex {
+
+        final Map<DropKey, ItemDropData> openDrops = new HashMap<>();
+        int expectedSize;
+
+        OwnerIndex() {
+        }
+
+        void rebuild(Collection<ItemDropData> drops) {
+            this.openDrops.clear();
+            for (ItemDropData drop : drops) {
+                final ItemStack stack = drop.getStack();
+                if (!stack.isEmpty() && stack.getCount() < stack.getMaxStackSize()) {
+                    this.openDrops.put(new DropKey(drop), drop);
+                }
+            }
+            this.expectedSize = drops.size();
+        }
+    }
+
+    /**
+     * The properties which drops must share to be merged, see
+     * {@link SpongeImplHooks#addItemStackToListForSpawning}.
+     */
+    private static final class DropKey {
+
+        private final Item item;
+        private final int metadata;
+        @Nullable private final NBTTagCompound tag;
+        private final int playerFlags;
+        private final int hash;
+
+        DropKey(ItemDropData data) {
+            final ItemStack stack = data.getStack();
+            this.item = stack.getItem();
+            this.metadata = this.item.getHasSubtypes() ? stack.getMetadata() : 0;
+            this.tag = stack.getTagCompound();
+            if (data instanceof ItemDropData.Player) {
+                final ItemDropData.Player playerData = (ItemDropData.Player) data;
+                this.playerFlags = 1 | (playerData.isTrace() ? 2 : 0) | (playerData.isDropAround() ? 4 : 0);
+            } else {
+                this.playerFlags = 0;
+            }
+            int hash = this.item.hashCode();
+            hash = 31 * hash + this.metadata;
+            hash = 31 * hash + (this.tag == null ? 0 : this.tag.hashCode());
+            this.hash = 31 * hash + this.playerFlags;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DropKey)) {
+                return false;
+            }
+            final DropKey other = (DropKey) obj;
+            return this.item == other.item && this.metadata == other.metadata && this.playerFlags == other.playerFlags
+                    && Objects.equals(this.tag, other.tag);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+}
@@ -47,6 +47,7 @@
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.explosion.Explosion;
+import org.spongepowered.common.entity.player.TrackedUserCache;
 import org.spongepowered.common.event.InternalNamedCauses;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 
@@ -82,6 +83,8 @@ public class PhaseContext {
     @Nullable private EntityItemEntityDropsSupplier entityItemEntityDropsSupplier;
     @Nullable protected User owner;
     @Nullable protected User notifier;
+    @Nullable private UUID ownerId;
+    @Nullable private UUID notifierId;
 
     private Object source;
 
@@ -103,7 +106,7 @@ public PhaseContext add(@Nullable NamedCause namedCause) {
 
     public PhaseContext owner(User owner) {
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
-        if (this.owner != null) {
+        if (this.owner != null || this.ownerId != null) {
             throw new IllegalStateException("Owner for this phase context is already set!");
         }
         this.owner = checkNotNull(owner, "Owner cannot be null!");
@@ -113,7 +116,7 @@ public PhaseContext owner(User owner) {
 
     public PhaseContext notifier(User notifier) {
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
-        if (this.notifier != null) {
+        if (this.notifier != null || this.notifierId != null) {
             throw new IllegalStateException("Notifier for this phase context is already set!");
         }
         this.notifier = checkNotNull(notifier, "Notifier cannot be null!");
@@ -121,6 +124,76 @@ public PhaseContext notifier(User notifier) {
         return this;
     }
 
+    /**
+     * Sets the owner by its unique id only. The {@link User} is resolved
+     * when it is first requested from this context, which for most phases
+     * is never.
+     *
+     * @param ownerId The unique id of the owner
+     * @return This context, for chaining
+     */
+    public PhaseContext ownerId(UUID ownerId) {
+        checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
+        if (this.owner != null || this.ownerId != null) {
+            throw new IllegalStateException("Owner for this phase context is already set!");
+        }
+        this.ownerId = checkNotNull(ownerId, "Owner cannot be null!");
+        return this;
+    }
+
+    /**
+     * Sets the notifier by its unique id only. The {@link User} is resolved
+     * when it is first requested from this context.
+     *
+     * @param notifierId The unique id of the notifier
+     * @return This context, for chaining
+     */
+    public PhaseContext notifierId(UUID notifierId) {
+        checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
+        if (this.notifier != null || this.notifierId != null) {
+            throw new IllegalStateException("Notifier for this phase context is already set!");
+        }
+        this.notifierId = checkNotNull(notifierId, "Notifier cannot be null!");
+        return this;
+    }
+
+    void inheritOwnerAndNotifier(PhaseContext other) {
+        this.notifier = other.notifier;
+        this.owner = other.owner;
+        this.notifierId = other.notifierId;
+        this.ownerId = other.ownerId;
+    }
+
+    private void resolveUsers() {
+        // Same order as if the users had been added directly, notifier first
+        if (this.notifierId != null) {
+            final Optional<User> notifier = TrackedUserCache.get(this.notifierId);
+            this.notifierId = null;
+            if (notifier.isPresent() && this.notifier == null) {
+                this.notifier = notifier.get();
+                this.contextObjects.add(NamedCause.notifier(this.notifier));
+            }
+        }
+        if (this.ownerId != null) {
+            final Optional<User> owner = TrackedUserCache.get(this.ownerId);
+            this.ownerId = null;
+            if (owner.isPresent() && this.owner == null) {
+                this.owner = owner.get();
+                this.contextObjects.add(NamedCause.owner(this.owner));
+            }
+        }
+    }
+
+    /**
+     * Gets whether the given class is a lookup for the owner or notifier,
+     * being {@link User} or one of its subtypes such as {@link Player}.
+     * Broader lookups do not resolve the users, those are resolved when the
+     * cause is built from this context.
+     */
+    private static boolean mayBeUser(Class<?> tClass) {
+        return User.class.isAssignableFrom(tClass);
+    }
+
     private void checkBlockSuppliers() {
         checkState(this.blocksSupplier == null, "BlocksSuppler is already set!");
         checkState(this.blockItemEntityDropsSupplier == null, "BlockItemEntityDropsSupplier is already set!");
@@ -256,12 +329,67 @@ public boolean isComplete() {
         return this.isCompleted;
     }
 
+    PhaseData createPhaseData(IPhaseState state) {
+        return new PhaseData(this, state);
+    }
+
+    /**
+     * Clears this context so it can be used again for another phase. The
+     * capture suppliers are kept and emptied in place, the source is
+     * re-added in its original position and everything else has to be added
+     * again before the context is completed.
+     *
+     * @param source The new source
+     */
+    void reset(NamedCause source) {
+        for (int i = this.contextObjects.size() - 1; i >= 0; i--) {
+            final Object causeObject = this.contextObjects.get(i).getCauseObject();
+            if (!(causeObject instanceof CapturedSupplier) && !(causeObject instanceof CapturedMultiMapSupplier)) {
+                this.contextObjects.remove(i);
+            }
+        }
+        this.isCompleted = false;
+        this.cause = null;
+        this.owner = null;
+        this.notifier = null;
+        this.ownerId = null;
+        this.notifierId = null;
+        this.cachedClass = null;
+        this.cachedObject = null;
+        this.cachedName = null;
+        resetSupplier(this.blocksSupplier);
+        resetSupplier(this.blockItemDropsSupplier);
+        resetSupplier(this.blockItemEntityDropsSupplier);
+        resetSupplier(this.capturedItemsSupplier);
+        resetSupplier(this.capturedEntitiesSupplier);
+        resetSupplier(this.capturedItemStackSupplier);
+        resetSupplier(this.entityItemDropsSupplier);
+        resetSupplier(this.entityItemEntityDropsSupplier);
+        this.contextObjects.add(0, source);
+        this.source = source.getCauseObject();
+    }
+
+    private static void resetSupplier(@Nullable CapturedSupplier<?> supplier) {
+        if (supplier != null) {
+            supplier.reset();
+        }
+    }
+
+    private static void resetSupplier(@Nullable CapturedMultiMapSupplier<?, ?> supplier) {
+        if (supplier != null) {
+            supplier.reset();
+        }
+    }
+
     @Nullable private Class<?> cachedClass;
     @Nullable private Object cachedObject;
     @Nullable private String cachedName;
 
     @SuppressWarnings("unchecked")
     public <T> Optional<T> first(Class<T> tClass) {
+        if (mayBeUser(tClass)) {
+            resolveUsers();
+        }
         if (this.cachedClass != null && this.cachedClass == tClass) {
             if (this.cachedObject != null) {
                 return Optional.of((T) this.cachedObject);
@@ -286,6 +414,16 @@ public <T> Optional<T> firstNamed(String name, Class<T> tClass) {
                 return Optional.of((T) this.cachedObject);
             }
         }
+        if (mayBeUser(tClass)) {
+            resolveUsers();
+        }
+        // The owner and notifier are looked up for nearly every captured change, avoid the scan for them
+        if (this.notifier != null && NamedCause.NOTIFIER.equals(name) && tClass.isInstance(this.notifier)) {
+            return Optional.of((T) this.notifier);
+        }
+        if (this.owner != null && NamedCause.OWNER.equals(name) && tClass.isInstance(this.owner)) {
+            return Optional.of((T) this.owner);
+        }
         for (NamedCause cause : this.contextObjects) {
             if (cause.getName().equalsIgnoreCase(name) && tClass.isInstance(cause.getCauseObject())) {
                 this.cachedObject = cause.getCauseObject();
@@ -309,18 +447,21 @@ public <T> Optional<T> getSource(Class<T> sourceClass) {
     }
 
     public Optional<User> getOwner() {
+        resolveUsers();
         return Optional.ofNullable(this.owner);
     }
 
     public Optional<User> getNotifier() {
+        resolveUsers();
         return Optional.ofNullable(this.notifier);
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     public List<Entity> getCapturedEntities() throws IllegalStateException {
-        return firstNamed(InternalNamedCauses.Tracker.CAPTURED_ENTITIES, CapturedEntitiesSupplier.class)
-                .map(CapturedEntitiesSupplier::get)
-                .orElseThrow(TrackingUtil.throwWithContext("Intended to capture entity spawns!", this));
+        if (this.capturedEntitiesSupplier == null) {
+            throw TrackingUtil.throwWithContext("Intended to capture entity spawns!", this).get();
+        }
+        return this.capturedEntitiesSupplier.get();
     }
 
     @SuppressWarnings("unchecked")
@@ -349,9 +490,10 @@ public CapturedSupplier<EntityItem> getCapturedItemsSupplier() throws IllegalSta
 
     @SuppressWarnings("unchecked")
     public List<BlockSnapshot> getCapturedBlocks() throws IllegalStateException {
-        return firstNamed(InternalNamedCauses.Tracker.CAPTURED_BLOCKS, CapturedBlocksSupplier.class)
-                .map(CapturedBlocksSupplier::get)
-                .orElseThrow(TrackingUtil.throwWithContext("Intended to capture block changes, but there is no list available!", this));
+        if (this.blocksSupplier == null) {
+            throw TrackingUtil.throwWithContext("Intended to capture block changes, but there is no list available!", this).get();
+        }
+        return this.blocksSupplier.get();
     }
 
     @SuppressWarnings("unchecked")
@@ -423,6 +565,7 @@ public Optional<Player> getCapturedPlayer() throws IllegalStateException {
     }
 
     public void forEach(Consumer<NamedCause> consumer) {
+        resolveUsers();
         this.contextObjects.forEach(consumer);
     }
 
@@ -431,6 +574,7 @@ public void forEach(Consumer<NamedCause> consumer) {
 
     @Override
     public int hashCode() {
+        resolveUsers();
         return Objects.hash(this.isCompleted, this.contextObjects, this.cause);
     }
 
@@ -443,6 +587,8 @@ public boolean equals(@Nullable Object obj) {
             return false;
         }
         final PhaseContext other = (PhaseContext) obj;
+        resolveUsers();
+        other.resolveUsers();
         return Objects.equals(this.isCompleted, other.isCompleted)
                && Objects.equals(this.contextObjects, other.contextObjects)
                && Objects.equals(this.cause, other.cause);
@@ -450,6 +596,7 @@ public boolean equals(@Nullable Object obj) {
 
     @Override
     public String toString() {
+        resolveUsers();
         return com.google.common.base.Objects.toStringHelper(this)
                 .add("isCompleted", this.isCompleted)
                 .add("contextObjects", this.contextObjects)
@@ -0,0 +1,138 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.spongepowered.api.event.cause.NamedCause;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link PhaseContext} for the per object tick phases (entities, riding
+ * entities and tile entities) that is reset in place and reused instead of
+ * being rebuilt for every ticking object. The capture suppliers and the
+ * {@link PhaseData} pushed onto the {@link CauseStack} are created once per
+ * pooled context, and the supplier lists themselves are still only created
+ * on the first capture.
+ */
+final class TickPhaseContext extends PhaseContext {
+
+    private boolean inUse;
+    private boolean initialized;
+    @Nullable private PhaseData phaseData;
+
+    TickPhaseContext() {
+    }
+
+    @Override
+    PhaseData createPhaseData(IPhaseState state) {
+        if (this.phaseData == null || this.phaseData.state != state) {
+            this.phaseData = new PhaseData(this, state);
+        }
+        return this.phaseData;
+    }
+
+    private TickPhaseContext prepare(Object source) {
+        final NamedCause namedSource = NamedCause.source(source);
+        if (this.initialized) {
+            reset(namedSource);
+        } else {
+            add(namedSource);
+            addEntityCaptures();
+            addBlockCaptures();
+            this.initialized = true;
+        }
+        this.inUse = true;
+        return this;
+    }
+
+    /**
+     * The reusable tick contexts of a single {@link CauseTracker}. Ticks can
+     * nest (an entity tick may cause another object to tick), so a context is
+     * handed out per nesting level. A context only returns to the pool when
+     * its tick completed normally, one that was abandoned by an exception is
+     * replaced by a new context instead since it may still be on the stack.
+     */
+    static final class Pool {
+
+        static final int MAX_DEPTH = 8;
+
+        private final TickPhaseContext[] contexts = new TickPhaseContext[MAX_DEPTH];
+
+        /**
+         * Gets an incomplete context with the given source and entity and
+         * block captures, ready to have the owner and notifier added.
+         *
+         * @param source The ticking object
+         * @return The context
+         */
+        PhaseContext acquire(Object source) {
+            for (int i = 0; i < MAX_DEPTH; i++) {
+                TickPhaseContext context = this.contexts[i];
+                if (context == null) {
+                    context = new TickPhaseContext();
+                    this.contexts[i] = context;
+                }
+                if (!context.inUse) {
+                    return context.prepare(source);
+                }
+            }
+            // Nested deeper than expected, fall back to a throwaway context
+            return PhaseContext.start()
+                    .add(NamedCause.source(source))
+                    .addEntityCaptures()
+                    .addBlockCaptures();
+        }
+
+        /**
+         * Returns a context obtained from {@link #acquire(Object)} after its
+         * phase has been completed.
+         *
+         * @param context The context
+         */
+        void release(PhaseContext context) {
+            if (context instanceof TickPhaseContext) {
+                ((TickPhaseContext) context).inUse = false;
+            }
+        }
+
+        /**
+         * Drops a context obtained from {@link #acquire(Object)} whose phase
+         * could not be completed. Its nesting level gets a new context the
+         * next time it is needed.
+         *
+         * @param context The context
+         */
+        void abandon(PhaseContext context) {
+            for (int i = 0; i < MAX_DEPTH; i++) {
+                if (this.contexts[i] == context) {
+                    this.contexts[i] = null;
+                    return;
+                }
+            }
+        }
+
+    }
+
+}
@@ -93,6 +93,7 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
+import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -135,23 +136,24 @@ public static void tickEntity(CauseTracker causeTracker, net.minecraft.entity.En
             // Don't tick entities in chunks queued for unload
             return;
         }
-        final PhaseContext phaseContext = PhaseContext.start()
-                .add(NamedCause.source(entityIn))
-                .addEntityCaptures()
-                .addBlockCaptures();
-        final IMixinEntity mixinEntity = EntityUtil.toMixin(entityIn);
-        mixinEntity.getNotifierUser()
-                .ifPresent(phaseContext::notifier);
-        mixinEntity.getCreatorUser()
-                .ifPresent(phaseContext::owner);
-
-        causeTracker.switchToPhase(TickPhase.Tick.ENTITY, phaseContext
-                .complete());
-        final Timing entityTiming = mixinEntity.getTimingsHandler();
-        entityTiming.startTiming();
-        entityIn.onUpdate();
-        entityTiming.stopTiming();
-        causeTracker.completePhase();
+        final TickPhaseContext.Pool contextPool = causeTracker.getTickContextPool();
+        final PhaseContext phaseContext = contextPool.acquire(entityIn);
+        boolean completed = false;
+        try {
+            final IMixinEntity mixinEntity = EntityUtil.toMixin(entityIn);
+            addNotifierAndOwner(phaseContext, mixinEntity.getNotifier(), mixinEntity.getCreator());
+
+            causeTracker.switchToPhase(TickPhase.Tick.ENTITY, phaseContext
+                    .complete());
+            final Timing entityTiming = mixinEntity.getTimingsHandler();
+            entityTiming.startTiming();
+            entityIn.onUpdate();
+            entityTiming.stopTiming();
+            causeTracker.completePhase();
+            completed = true;
+        } finally {
+            releaseTickContext(contextPool, phaseContext, completed);
+        }
     }
 
     public static void tickRidingEntity(CauseTracker causeTracker, net.minecraft.entity.Entity entity) {
@@ -162,22 +164,23 @@ public static void tickRidingEntity(CauseTracker causeTracker, net.minecraft.ent
             // Don't tick entity in chunks queued for unload
             return;
         }
-        final PhaseContext phaseContext = PhaseContext.start()
-                .add(NamedCause.source(entity))
-                .addEntityCaptures()
-                .addBlockCaptures();
-        final IMixinEntity mixinEntity = EntityUtil.toMixin(entity);
-        mixinEntity.getNotifierUser()
-                .ifPresent(phaseContext::notifier);
-        mixinEntity.getCreatorUser()
-                .ifPresent(phaseContext::owner);
-        causeTracker.switchToPhase(TickPhase.Tick.ENTITY, phaseContext
-                .complete());
-        final Timing entityTiming = mixinEntity.getTimingsHandler();
-        entityTiming.startTiming();
-        entity.updateRidden();
-        entityTiming.stopTiming();
-        causeTracker.completePhase();
+        final TickPhaseContext.Pool contextPool = causeTracker.getTickContextPool();
+        final PhaseContext phaseContext = contextPool.acquire(entity);
+        boolean completed = false;
+        try {
+            final IMixinEntity mixinEntity = EntityUtil.toMixin(entity);
+            addNotifierAndOwner(phaseContext, mixinEntity.getNotifier(), mixinEntity.getCreator());
+            causeTracker.switchToPhase(TickPhase.Tick.ENTITY, phaseContext
+                    .complete());
+            final Timing entityTiming = mixinEntity.getTimingsHandler();
+            entityTiming.startTiming();
+            entity.updateRidden();
+            entityTiming.stopTiming();
+            causeTracker.completePhase();
+            completed = true;
+        } finally {
+            releaseTickContext(contextPool, phaseContext, completed);
+        }
     }
 
     public static void tickTileEntity(CauseTracker causeTracker, ITickable tile) {
@@ -191,28 +194,47 @@ public static void tickTileEntity(CauseTracker causeTracker, ITickable tile) {
             // Don't tick TE's in chunks queued for unload
             return;
         }
-        final PhaseContext phaseContext = PhaseContext.start()
-                .add(NamedCause.source(tile))
-                .addEntityCaptures()
-                .addBlockCaptures();
+        final TickPhaseContext.Pool contextPool = causeTracker.getTickContextPool();
+        final PhaseContext phaseContext = contextPool.acquire(tile);
+        boolean completed = false;
+        try {
+            final IMixinChunk mixinChunk = (IMixinChunk) chunk;
+            // Add notifier and owner so we don't have to perform lookups during the phases and other processing
+            addNotifierAndOwner(phaseContext, mixinChunk.getBlockNotifierUUID(pos), mixinChunk.getBlockOwnerUUID(pos));
+
+            final IMixinTileEntity mixinTileEntity = (IMixinTileEntity) tile;
+            // Add the block snapshot of the tile entity for caches to avoid creating multiple snapshots during processing
+            // This is a lazy evaluating snapshot to avoid the overhead of snapshot creation
+            causeTracker.switchToPhase(TickPhase.Tick.TILE_ENTITY, phaseContext
+                    .complete());
+            mixinTileEntity.getTimingsHandler().startTiming();
+            tile.update();
+            mixinTileEntity.getTimingsHandler().stopTiming();
+            causeTracker.completePhase();
+            completed = true;
+        } finally {
+            releaseTickContext(contextPool, phaseContext, completed);
+        }
+    }
 
-        final IMixinChunk mixinChunk = (IMixinChunk) chunk;
-        // Add notifier and owner so we don't have to perform lookups during the phases and other processing
-        mixinChunk.getBlockNotifier(pos)
-                .ifPresent(phaseContext::notifier);
-        mixinChunk.getBlockOwner(pos)
-                .ifPresent(phaseContext::owner);
-
-        final IMixinTileEntity mixinTileEntity = (IMixinTileEntity) tile;
-        // Add the block snapshot of the tile entity for caches to avoid creating multiple snapshots during processing
-        // This is a lazy evaluating snapshot to avoid the overhead of snapshot creation
-        causeTracker.switchToPhase(TickPhase.Tick.TILE_ENTITY, phaseContext
-                .complete());
-        mixinTileEntity.getTimingsHandler().startTiming();
-        tile.update();
-        mixinTileEntity.getTimingsHandler().stopTiming();
-        causeTracker.completePhase();
+    private static void releaseTickContext(TickPhaseContext.Pool contextPool, PhaseContext phaseContext, boolean completed) {
+        if (completed) {
+            contextPool.release(phaseContext);
+        } else {
+            // The tick threw, so the context may still be on the stack and must not be handed out again
+            contextPool.abandon(phaseContext);
+        }
+    }
 
+    private static void addNotifierAndOwner(PhaseContext phaseContext, Optional<UUID> notifier, Optional<UUID> owner) {
+        // Only the ids are added, most ticks never need the actual users. Plain checks rather than
+        // ifPresent(phaseContext::notifierId), which would allocate a bound method reference per tick
+        if (notifier.isPresent()) {
+            phaseContext.notifierId(notifier.get());
+        }
+        if (owner.isPresent()) {
+            phaseContext.ownerId(owner.get());
+        }
     }
 
     public static void updateTickBlock(CauseTracker causeTracker, Block block, BlockPos pos, IBlockState state, Random random) {
@@ -354,9 +376,8 @@ public static void performBlockDrop(Block block, IMixinWorldServer mixinWorld, B
                     // unused, to be removed and re-located when phase context is cleaned up
                     //.add(NamedCause.of(InternalNamedCauses.General.BLOCK_BREAK_FORTUNE, fortune))
                     //.add(NamedCause.of(InternalNamedCauses.General.BLOCK_BREAK_POSITION, pos));
-            // use current notifier and owner if available
-            context.notifier = causeTracker.getCurrentContext().notifier;
-            context.owner = causeTracker.getCurrentContext().owner;
+            // use current notifier and owner if available, they are only resolved to users if needed
+            context.inheritOwnerAndNotifier(causeTracker.getCurrentContext());
             context.complete();
             causeTracker.switchToPhase(BlockPhase.State.BLOCK_DROP_ITEMS, context);
         }
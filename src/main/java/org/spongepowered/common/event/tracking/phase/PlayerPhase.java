@@ -95,9 +95,7 @@ public void unwind(CauseTracker causeTracker, IPhaseState state, PhaseContext ph
                     SpongeEventFactory.createDropItemEventDispense(cause, entities, causeTracker.getWorld());
             SpongeImpl.postEvent(dispense);
             if (!dispense.isCancelled()) {
-                for (Entity entity : dispense.getEntities()) {
-                    causeTracker.getMixinWorld().forceSpawnEntity(entity);
-                }
+                causeTracker.getMixinWorld().forceSpawnEntities(dispense.getEntities());
             }
         });
         phaseContext.getCapturedItemStackSupplier().ifPresentAndNotEmpty(items -> {
@@ -116,9 +114,7 @@ public void unwind(CauseTracker causeTracker, IPhaseState state, PhaseContext ph
                 DropItemEvent.Custom event = SpongeEventFactory.createDropItemEventCustom(cause, entities, causeTracker.getWorld());
                 SpongeImpl.postEvent(event);
                 if (!event.isCancelled()) {
-                    for (Entity droppedItem : event.getEntities()) {
-                        causeTracker.getMixinWorld().forceSpawnEntity(droppedItem);
-                    }
+                    causeTracker.getMixinWorld().forceSpawnEntities(event.getEntities());
                 }
             }
         });
@@ -123,9 +123,7 @@ public void processPostItemSpawns(CauseTracker causeTracker, IPhaseState unwindi
                 SpongeEventFactory.createSpawnEntityEvent(InternalSpawnTypes.UNKNOWN_CAUSE, items, causeTracker.getWorld());
         SpongeImpl.postEvent(event);
         if (!event.isCancelled()) {
-            for (Entity entity : event.getEntities()) {
-                causeTracker.getMixinWorld().forceSpawnEntity(entity);
-            }
+            causeTracker.getMixinWorld().forceSpawnEntities(event.getEntities());
         }
     }
 
@@ -280,9 +278,7 @@ public boolean spawnEntityOrCapture(CauseTracker causeTracker, IPhaseState phase
                 entities, (World) minecraftWorld);
         SpongeImpl.postEvent(event);
         if (!event.isCancelled() && event.getEntities().size() > 0) {
-            for (Entity item: event.getEntities()) {
-                causeTracker.getMixinWorld().forceSpawnEntity(item);
-            }
+            causeTracker.getMixinWorld().forceSpawnEntities(event.getEntities());
             return true;
         }
         return false;
@@ -89,9 +89,7 @@ void unwind(CauseTracker causeTracker, PhaseContext context) {
                             SpongeEventFactory.createSpawnEntityEvent(cause, entities, causeTracker.getWorld());
                     SpongeImpl.postEvent(event);
                     if (!event.isCancelled()) {
-                        for (Entity entity : event.getEntities()) {
-                            causeTracker.getMixinWorld().forceSpawnEntity(entity);
-                        }
+                        causeTracker.getMixinWorld().forceSpawnEntities(event.getEntities());
                     }
                 });
         context.getCapturedBlockSupplier()
@@ -115,9 +113,7 @@ void unwind(CauseTracker causeTracker, PhaseContext context) {
                         DropItemEvent.Custom event = SpongeEventFactory.createDropItemEventCustom(cause, entities, causeTracker.getWorld());
                         SpongeImpl.postEvent(event);
                         if (!event.isCancelled()) {
-                            for (Entity droppedItem : event.getEntities()) {
-                                mixinWorld.forceSpawnEntity(droppedItem);
-                            }
+                            mixinWorld.forceSpawnEntities(event.getEntities());
                         }
                     }
                 });
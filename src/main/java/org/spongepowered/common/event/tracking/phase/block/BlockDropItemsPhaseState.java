@@ -84,9 +84,7 @@ void unwind(CauseTracker causeTracker, PhaseContext phaseContext) {
                             SpongeEventFactory.createDropItemEventDestruct(cause, entities, causeTracker.getWorld());
                     SpongeImpl.postEvent(event);
                     if (!event.isCancelled()) {
-                        for (Entity entity : event.getEntities()) {
-                            causeTracker.getMixinWorld().forceSpawnEntity(entity);
-                        }
+                        causeTracker.getMixinWorld().forceSpawnEntities(event.getEntities());
                     }
                 });
         phaseContext.getCapturedEntitySupplier()
@@ -107,9 +105,7 @@ void unwind(CauseTracker causeTracker, PhaseContext phaseContext) {
                             SpongeEventFactory.createSpawnEntityEvent(cause, entities, causeTracker.getWorld());
                     SpongeImpl.postEvent(event);
                     if (!event.isCancelled()) {
-                        for (Entity entity : event.getEntities()) {
-                            causeTracker.getMixinWorld().forceSpawnEntity(entity);
-                        }
+                        causeTracker.getMixinWorld().forceSpawnEntities(event.getEntities());
                     }
                 });
         final Location<World> worldLocation = blockSnapshot.getLocation().get();
@@ -140,9 +136,7 @@ void unwind(CauseTracker causeTracker, PhaseContext phaseContext) {
                         DropItemEvent.Custom event = SpongeEventFactory.createDropItemEventCustom(cause, entities, causeTracker.getWorld());
                         SpongeImpl.postEvent(event);
                         if (!event.isCancelled()) {
-                            for (Entity droppedItem : event.getEntities()) {
-                                mixinWorld.forceSpawnEntity(droppedItem);
-                            }
+                            mixinWorld.forceSpawnEntities(event.getEntities());
                         }
                     }
                 });
@@ -76,9 +76,7 @@ void unwind(CauseTracker causeTracker, PhaseContext phaseContext) {
                             SpongeEventFactory.createDropItemEventDispense(cause, entities, causeTracker.getWorld());
                     SpongeImpl.postEvent(event);
                     if (!event.isCancelled()) {
-                        for (Entity entity : event.getEntities()) {
-                            causeTracker.getMixinWorld().forceSpawnEntity(entity);
-                        }
+                        causeTracker.getMixinWorld().forceSpawnEntities(event.getEntities());
                     }
                 });
         phaseContext.getCapturedEntitySupplier()
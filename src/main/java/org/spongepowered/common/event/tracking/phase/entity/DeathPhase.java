@@ -99,9 +99,7 @@ void unwind(CauseTracker causeTracker, PhaseContext context) {
                                 SpongeEventFactory.createSpawnEntityEvent(experienceCause, experience, causeTracker.getWorld());
                         SpongeImpl.postEvent(spawnEntityEvent);
                         if (!spawnEntityEvent.isCancelled()) {
-                            for (Entity entity : spawnEntityEvent.getEntities()) {
-                                causeTracker.getMixinWorld().forceSpawnEntity(entity);
-                            }
+                            causeTracker.getMixinWorld().forceSpawnEntities(spawnEntityEvent.getEntities());
                         }
                     }
 
@@ -122,9 +120,7 @@ void unwind(CauseTracker causeTracker, PhaseContext context) {
                                 SpongeEventFactory.createSpawnEntityEvent(otherCause, experience, causeTracker.getWorld());
                         SpongeImpl.postEvent(spawnEntityEvent);
                         if (!spawnEntityEvent.isCancelled()) {
-                            for (Entity entity : spawnEntityEvent.getEntities()) {
-                                causeTracker.getMixinWorld().forceSpawnEntity(entity);
-                            }
+                            causeTracker.getMixinWorld().forceSpawnEntities(spawnEntityEvent.getEntities());
                         }
                     }
                 });
@@ -135,9 +131,7 @@ void unwind(CauseTracker causeTracker, PhaseContext context) {
             final DropItemEvent.Destruct destruct = SpongeEventFactory.createDropItemEventDestruct(cause, entities, causeTracker.getWorld());
             SpongeImpl.postEvent(destruct);
             if (!destruct.isCancelled()) {
-                for (Entity entity : destruct.getEntities()) {
-                    causeTracker.getMixinWorld().forceSpawnEntity(entity);
-                }
+                causeTracker.getMixinWorld().forceSpawnEntities(destruct.getEntities());
             }
             return;
         }
@@ -159,9 +153,7 @@ void unwind(CauseTracker causeTracker, PhaseContext context) {
                     SpongeEventFactory.createDropItemEventDestruct(cause, entities, causeTracker.getWorld());
             SpongeImpl.postEvent(destruct);
             if (!destruct.isCancelled()) {
-                for (Entity entity : destruct.getEntities()) {
-                    causeTracker.getMixinWorld().forceSpawnEntity(entity);
-                }
+                causeTracker.getMixinWorld().forceSpawnEntities(destruct.getEntities());
             }
 
              // Note: If cancelled, the items do not spawn in the world and are NOT copied back to player inventory.
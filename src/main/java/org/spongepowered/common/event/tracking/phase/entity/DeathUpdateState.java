@@ -78,9 +78,7 @@ void unwind(CauseTracker causeTracker, PhaseContext context) {
                             SpongeEventFactory.createDropItemEventDestruct(cause, entities, causeTracker.getWorld());
                     SpongeImpl.postEvent(destruct);
                     if (!destruct.isCancelled()) {
-                        for (Entity entity : destruct.getEntities()) {
-                            causeTracker.getMixinWorld().forceSpawnEntity(entity);
-                        }
+                        causeTracker.getMixinWorld().forceSpawnEntities(destruct.getEntities());
                     }
                 });
         context.getCapturedEntitySupplier()
@@ -100,9 +98,7 @@ void unwind(CauseTracker causeTracker, PhaseContext context) {
                                         SpongeEventFactory.createSpawnEntityEvent(cause, experience, causeTracker.getWorld());
                                 SpongeImpl.postEvent(event);
                                 if (!event.isCancelled()) {
-                                    for (Entity entity : event.getEntities()) {
-                                        causeTracker.getMixinWorld().forceSpawnEntity(entity);
-                                    }
+                                    causeTracker.getMixinWorld().forceSpawnEntities(event.getEntities());
                                 }
                             }
 
@@ -121,9 +117,7 @@ void unwind(CauseTracker causeTracker, PhaseContext context) {
                                         SpongeEventFactory.createSpawnEntityEvent(cause, other, causeTracker.getWorld());
                                 SpongeImpl.postEvent(event1);
                                 if (!event1.isCancelled()) {
-                                    for (Entity entity : event1.getEntities()) {
-                                        causeTracker.getMixinWorld().forceSpawnEntity(entity);
-                                    }
+                                    causeTracker.getMixinWorld().forceSpawnEntities(event1.getEntities());
                                 }
                             }
 
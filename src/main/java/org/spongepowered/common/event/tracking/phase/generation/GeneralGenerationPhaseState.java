@@ -105,9 +105,7 @@ public final void unwind(CauseTracker causeTracker, PhaseContext context) {
                 SpongeEventFactory.createSpawnEntityEventSpawner(cause, spawnedEntities, causeTracker.getWorld());
         SpongeImpl.postEvent(event);
         if (!event.isCancelled()) {
-            for (Entity entity : event.getEntities()) {
-                causeTracker.getMixinWorld().forceSpawnEntity(entity);
-            }
+            causeTracker.getMixinWorld().forceSpawnEntities(event.getEntities());
         }
 
     }
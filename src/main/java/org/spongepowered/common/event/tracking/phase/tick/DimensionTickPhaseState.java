@@ -61,9 +61,7 @@ public void processPostTick(CauseTracker causeTracker, PhaseContext phaseContext
                             SpongeEventFactory.createSpawnEntityEvent(cause, entities, causeTracker.getWorld());
                     SpongeImpl.postEvent(event);
                     if (!event.isCancelled()) {
-                        for (Entity entity : event.getEntities()) {
-                            causeTracker.getMixinWorld().forceSpawnEntity(entity);
-                        }
+                        causeTracker.getMixinWorld().forceSpawnEntities(event.getEntities());
                     }
 
                 });
@@ -81,9 +79,7 @@ public void processPostTick(CauseTracker causeTracker, PhaseContext phaseContext
                             SpongeEventFactory.createSpawnEntityEvent(cause, capturedEntities, causeTracker.getWorld());
                     SpongeImpl.postEvent(event);
                     if (!event.isCancelled()) {
-                        for (Entity entity : event.getEntities()) {
-                            causeTracker.getMixinWorld().forceSpawnEntity(entity);
-                        }
+                        causeTracker.getMixinWorld().forceSpawnEntities(event.getEntities());
                     }
                 });
     }
@@ -267,9 +267,7 @@ public void processPostTick(CauseTracker causeTracker, PhaseContext phaseContext
                         DropItemEvent.Custom event = SpongeEventFactory.createDropItemEventCustom(cause, entities, causeTracker.getWorld());
                         SpongeImpl.postEvent(event);
                         if (!event.isCancelled()) {
-                            for (Entity droppedItem : event.getEntities()) {
-                                causeTracker.getMixinWorld().forceSpawnEntity(droppedItem);
-                            }
+                            causeTracker.getMixinWorld().forceSpawnEntities(event.getEntities());
                         }
                     }
                 });
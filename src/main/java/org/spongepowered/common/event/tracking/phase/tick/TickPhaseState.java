@@ -94,9 +94,7 @@ public void processPostSpawns(CauseTracker causeTracker, PhaseContext phaseConte
                 SpongeEventFactory.createSpawnEntityEvent(InternalSpawnTypes.UNKNOWN_CAUSE, entities, causeTracker.getWorld());
         SpongeImpl.postEvent(event);
         if (!event.isCancelled()) {
-            for (Entity entity : event.getEntities()) {
-                causeTracker.getMixinWorld().forceSpawnEntity(entity);
-            }
+            causeTracker.getMixinWorld().forceSpawnEntities(event.getEntities());
         }
     }
 
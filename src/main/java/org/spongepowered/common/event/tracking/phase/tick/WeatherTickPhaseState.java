@@ -52,9 +52,7 @@ public void processPostTick(CauseTracker causeTracker, PhaseContext phaseContext
                     spawnEntityEvent =
                     SpongeEventFactory.createSpawnEntityEvent(builder.build(), entities, causeTracker.getWorld());
             SpongeImpl.postEvent(spawnEntityEvent);
-            for (Entity entity : spawnEntityEvent.getEntities()) {
-                causeTracker.getMixinWorld().forceSpawnEntity(entity);
-            }
+            causeTracker.getMixinWorld().forceSpawnEntities(spawnEntityEvent.getEntities());
         });
         phaseContext.getCapturedBlockSupplier().ifPresentAndNotEmpty(blockSnapshots -> {
             TrackingUtil.processBlockCaptures(blockSnapshots, causeTracker, this, phaseContext);
@@ -77,9 +75,7 @@ public boolean spawnEntityOrCapture(CauseTracker causeTracker, PhaseContext cont
                 SpongeEventFactory.createSpawnEntityEvent(builder.build(), capturedEntities, causeTracker.getWorld());
         SpongeImpl.postEvent(spawnEntityEvent);
         if (!spawnEntityEvent.isCancelled()) {
-            for (Entity anEntity : spawnEntityEvent.getEntities()) {
-                causeTracker.getMixinWorld().forceSpawnEntity(anEntity);
-            }
+            causeTracker.getMixinWorld().forceSpawnEntities(spawnEntityEvent.getEntities());
             return true;
         }
         return false;
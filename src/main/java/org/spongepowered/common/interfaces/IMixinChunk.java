@@ -24,9 +24,9 @@
  */
 package org.spongepowered.common.interfaces;
 
-import com.flowpowered.math.vector.Vector3d;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.chunk.ChunkPrimer;
 import org.spongepowered.api.block.BlockSnapshot;
@@ -34,14 +34,13 @@
 import org.spongepowered.api.util.Direction;
 import org.spongepowered.api.world.BlockChangeFlag;
 import org.spongepowered.api.world.Chunk;
-import org.spongepowered.api.world.extent.EntityUniverse;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.world.extent.EntityHitVisitor;
+import org.spongepowered.common.world.extent.EntityVisitor;
 
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
-import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
@@ -55,6 +54,10 @@ public interface IMixinChunk {
 
     Optional<User> getBlockNotifier(BlockPos pos);
 
+    Optional<UUID> getBlockOwnerUUID(BlockPos pos);
+
+    Optional<UUID> getBlockNotifierUUID(BlockPos pos);
+
     @Nullable
     IBlockState setBlockState(BlockPos pos, IBlockState newState, IBlockState currentState, @Nullable BlockSnapshot originalBlockSnapshot);
 
@@ -84,8 +87,10 @@ public interface IMixinChunk {
 
     void setScheduledForUnload(long scheduled);
 
-    void getIntersectingEntities(Vector3d start, Vector3d direction, double distance, Predicate<EntityUniverse.EntityHit> filter,
-            double entryY, double exitY, Set<EntityUniverse.EntityHit> intersections);
+    boolean visitIntersectingEntities(double startX, double startY, double startZ, double directionX, double directionY, double directionZ,
+            double distance, double entryY, double exitY, EntityHitVisitor visitor);
+
+    boolean visitEntitiesWithinAABB(AxisAlignedBB box, EntityVisitor visitor);
 
     boolean isPersistedChunk();
 
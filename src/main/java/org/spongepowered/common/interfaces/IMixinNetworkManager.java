@@ -25,6 +25,7 @@
 package org.spongepowered.common.interfaces;
 
 import com.mojang.authlib.properties.Property;
+import io.netty.buffer.ByteBuf;
 import org.spongepowered.api.MinecraftVersion;
 
 import java.net.InetSocketAddress;
@@ -52,4 +53,16 @@ public interface IMixinNetworkManager {
     Property[] getSpoofedProfile();
 
     void setSpoofedProfile(Property[] profile);
+
+    /**
+     * Writes an already encoded play state packet, including its id, to the
+     * channel. This bypasses the packet encoder but not compression,
+     * framing or encryption.
+     *
+     * @param encoded The encoded packet, which is not modified
+     * @param flush Whether to flush the channel after writing
+     * @return False if the packet couldn't be written this way and should be
+     *     sent as a {@link net.minecraft.network.Packet} instead
+     */
+    boolean sendEncodedPacket(ByteBuf encoded, boolean flush);
 }
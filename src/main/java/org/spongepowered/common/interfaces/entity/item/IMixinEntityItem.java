@@ -24,6 +24,8 @@
  */
 package org.spongepowered.common.interfaces.entity.item;
 
+import net.minecraft.entity.item.EntityItem;
+
 public interface IMixinEntityItem {
 
     boolean infinitePickupDelay();
@@ -37,4 +39,13 @@ public interface IMixinEntityItem {
     int getDespawnDelay();
 
     void setDespawnDelay(int delay, boolean infinite);
+
+    /**
+     * Merges this item with the given item if vanilla allows it. Either
+     * item may absorb the other one.
+     *
+     * @param other The other item
+     * @return Whether the items were merged
+     */
+    boolean combineWith(EntityItem other);
 }
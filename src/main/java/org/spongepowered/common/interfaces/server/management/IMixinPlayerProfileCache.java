@@ -24,9 +24,25 @@
  */
 package org.spongepowered.common.interfaces.server.management;
 
+import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.api.profile.GameProfileCache;
+
+import java.util.Optional;
+
 public interface IMixinPlayerProfileCache {
 
     boolean canSave();
 
     void setCanSave(boolean flag);
+
+    /**
+     * Looks a profile up by name like {@link GameProfileCache#lookupByName(String)},
+     * but fails if the profile server couldn't be asked instead of
+     * returning nothing as if there was no such profile.
+     *
+     * @param name The name
+     * @return The profile, or nothing if the server doesn't know the name
+     * @throws Exception If the profile server couldn't be asked
+     */
+    Optional<GameProfile> lookupByNameOrThrow(String name) throws Exception;
 }
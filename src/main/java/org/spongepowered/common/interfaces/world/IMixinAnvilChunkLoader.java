@@ -26,6 +26,7 @@
 
 import net.minecraft.world.World;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
 public interface IMixinAnvilChunkLoader {
@@ -35,4 +36,18 @@ public interface IMixinAnvilChunkLoader {
 
     Path getWorldDir();
 
+    /**
+     * Reads and decompresses the stored data of a chunk ahead of time so that
+     * a later load on the main thread does not have to touch the disk. This
+     * may be called from any thread.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return Whether the chunk has stored data
+     * @throws IOException If the region file could not be read
+     */
+    boolean prefetchChunk(int x, int z) throws IOException;
+
+    void clearPrefetchedChunks();
+
 }
@@ -25,6 +25,9 @@
 package org.spongepowered.common.interfaces.world;
 
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.AxisAlignedBB;
+import org.spongepowered.common.world.extent.EntityHitVisitor;
+import org.spongepowered.common.world.extent.EntityVisitor;
 
 import javax.annotation.Nullable;
 
@@ -39,4 +42,31 @@ public interface IMixinWorld {
 
     @Nullable
     EntityPlayer getClosestPlayerWhoAffectsSpawning(double x, double y, double z, double distance);
+
+    /**
+     * Visits the entities intersecting the box, only looking at the entity
+     * lists of the chunk sections the box overlaps.
+     *
+     * @param box The box
+     * @param visitor The visitor
+     * @return False if the visitor stopped the query
+     */
+    boolean visitEntitiesWithinAABB(AxisAlignedBB box, EntityVisitor visitor);
+
+    /**
+     * Visits the entities hit by the ray, only looking at the entity lists of
+     * the chunk sections the ray passes near.
+     *
+     * @param startX The x coordinate of the ray start
+     * @param startY The y coordinate of the ray start
+     * @param startZ The z coordinate of the ray start
+     * @param directionX The x component of the ray direction, of unit length
+     * @param directionY The y component of the ray direction, of unit length
+     * @param directionZ The z component of the ray direction, of unit length
+     * @param distance The length of the ray
+     * @param visitor The visitor
+     * @return False if the visitor stopped the query
+     */
+    boolean visitIntersectingEntities(double startX, double startY, double startZ, double directionX, double directionY, double directionZ,
+            double distance, EntityHitVisitor visitor);
 }
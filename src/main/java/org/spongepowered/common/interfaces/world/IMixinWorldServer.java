@@ -39,9 +39,12 @@
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.event.tracking.CauseTracker;
+import org.spongepowered.common.world.ExplosionCache;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
 
+import java.util.Collection;
+
 import javax.annotation.Nullable;
 
 public interface IMixinWorldServer extends IMixinWorld {
@@ -70,6 +73,14 @@ default boolean forceSpawnEntity(Entity entity) {
         return forceSpawnEntity(EntityUtil.fromNative(entity));
     }
 
+    /**
+     * Spawns all the entities without throwing events, adding them to their
+     * chunks in batches.
+     *
+     * @param entities The entities to spawn
+     */
+    void forceSpawnEntities(Collection<? extends org.spongepowered.api.entity.Entity> entities);
+
     void onSpongeEntityAdded(Entity entity);
 
     void onSpongeEntityRemoved(Entity entity);
@@ -90,6 +101,8 @@ default boolean forceSpawnEntity(Entity entity) {
 
     WorldTimingsHandler getTimingsHandler();
 
+    ExplosionCache getExplosionCache();
+
     int getChunkGCTickInterval();
 
     long getChunkUnloadDelay();
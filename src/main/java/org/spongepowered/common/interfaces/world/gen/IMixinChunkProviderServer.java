@@ -27,6 +27,7 @@
 import javax.annotation.Nullable;
 
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.IChunkLoader;
 
 public interface IMixinChunkProviderServer {
 
@@ -39,4 +40,27 @@ public interface IMixinChunkProviderServer {
     @Nullable Chunk getLoadedChunkWithoutMarkingActive(int x, int z);
 
     long getChunkUnloadDelay();
+
+    IChunkLoader getChunkLoader();
+
+    /**
+     * Replaces the incremental auto-save queue with every loaded chunk that
+     * currently needs saving.
+     *
+     * @return The number of chunks left over from the previous queue
+     */
+    int queueChunksForAutoSave();
+
+    /**
+     * Saves an even share of the queued chunks so that the queue drains over
+     * the remaining ticks, stopping early once the deadline has passed.
+     *
+     * @param ticksRemaining The ticks left until the next auto-save starts
+     * @param deadline The {@link System#nanoTime()} after which no further
+     *     chunks are saved this tick
+     * @return The number of chunks saved
+     */
+    int saveQueuedChunks(int ticksRemaining, long deadline);
+
+    int getAutoSaveBacklog();
 }
@@ -0,0 +1,130 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.item.inventory.lens.impl;
+
+import com.google.common.base.Objects;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.item.ItemStack;
+import org.spongepowered.common.item.inventory.adapter.InventoryAdapter;
+import org.spongepowered.common.item.inventory.lens.Lens;
+import org.spongepowered.common.item.inventory.lens.impl.collections.SlotCollection;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Shared, immutable lens trees for inventories whose shape only depends on
+ * the adapter class and the inventory size.
+ *
+ * <p>A lens created with an adapter type rather than an adapter instance
+ * does not reference the inventory it was built for, all state is taken
+ * from the {@link org.spongepowered.common.item.inventory.lens.Fabric}
+ * passed to it. Such trees can be built once per shape and shared between
+ * every inventory of that shape instead of being rebuilt for each instance.
+ * Lenses bound to their adapter (players, large chests) can not be shared
+ * and must not be registered here.</p>
+ */
+public final class LensTemplates {
+
+    private static final Map<Key, Template> templates = new ConcurrentHashMap<>();
+
+    private LensTemplates() {
+    }
+
+    /**
+     * Gets the shared template for the shape of the given adapter, creating
+     * it with the given factory if this is the first inventory of its shape.
+     *
+     * @param adapter The adapter to get the template for
+     * @param factory The factory creating the template
+     * @return The shared template
+     */
+    public static Template get(InventoryAdapter<IInventory, ItemStack> adapter,
+            Function<InventoryAdapter<IInventory, ItemStack>, Template> factory) {
+        final Key key = new Key(adapter.getClass(), adapter.getInventory().getSize());
+        Template template = templates.get(key);
+        if (template == null) {
+            // Two threads may race to create the same template, the loser
+            // simply uses the winner's template.
+            final Template created = factory.apply(adapter);
+            template = templates.putIfAbsent(key, created);
+            if (template == null) {
+                template = created;
+            }
+        }
+        return template;
+    }
+
+    public static final class Template {
+
+        private final SlotCollection slots;
+        private final Lens<IInventory, ItemStack> lens;
+
+        public Template(SlotCollection slots, Lens<IInventory, ItemStack> lens) {
+            this.slots = slots;
+            this.lens = lens;
+        }
+
+        public SlotCollection getSlots() {
+            return this.slots;
+        }
+
+        public Lens<IInventory, ItemStack> getLens() {
+            return this.lens;
+        }
+
+    }
+
+    private static final class Key {
+
+        private final Class<?> adapterType;
+        private final int size;
+
+        Key(Class<?> adapterType, int size) {
+            this.adapterType = adapterType;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return this.size == key.size && this.adapterType == key.adapterType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(this.adapterType, this.size);
+        }
+
+    }
+
+}
@@ -26,6 +26,8 @@
 
 import static com.google.common.base.Preconditions.*;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.MapMaker;
 import com.google.common.collect.Maps;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
@@ -53,7 +55,10 @@
 
 import java.lang.reflect.Constructor;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class Query<TInventory, TStack> {
 
@@ -99,6 +104,14 @@ public String getKey() {
 
     private static ResultAdapterProvider<?, ?> defaultResultProvider;
 
+    /**
+     * Results of structural queries, per root lens and then per strategy.
+     * Root lenses are shared between inventories of the same shape, so a
+     * query compiled against one furnace is reused for every furnace.
+     */
+    private static final ConcurrentMap<Lens<?, ?>, ConcurrentMap<List<Object>, List<Lens<?, ?>>>> compiledResults =
+            new MapMaker().weakKeys().makeMap();
+
     static {
         Query.registerDefaultStrategies();
         Query.setDefaultResultProvider(new MinecraftResultAdapterProvider());
@@ -125,6 +138,11 @@ public Inventory execute() {
     }
 
     public Inventory execute(ResultAdapterProvider<TInventory, TStack> resultProvider) {
+        final Object cacheKey = this.strategy.getCacheKey();
+        if (cacheKey != null) {
+            return this.executeCompiled(resultProvider, cacheKey);
+        }
+
         if (this.strategy.matches(this.lens, null, this.inventory)) {
             return this.lens.getAdapter(this.inventory, null);
         }
@@ -132,6 +150,35 @@ public Inventory execute(ResultAdapterProvider<TInventory, TStack> resultProvide
         return this.toResult(resultProvider, this.depthFirstSearch(this.lens));
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Inventory executeCompiled(ResultAdapterProvider<TInventory, TStack> resultProvider, Object cacheKey) {
+        final ConcurrentMap<List<Object>, List<Lens<?, ?>>> compiled =
+                Query.compiledResults.computeIfAbsent(this.lens, (lens) -> new ConcurrentHashMap<>());
+        final List<Object> key = ImmutableList.of(this.strategy.getClass(), cacheKey);
+        List<Lens<?, ?>> matches = compiled.get(key);
+        if (matches == null) {
+            if (this.strategy.matches(this.lens, null, this.inventory)) {
+                matches = ImmutableList.of(this.lens);
+            } else {
+                matches = (List) ImmutableList.copyOf(this.depthFirstSearch(this.lens));
+            }
+            compiled.putIfAbsent(key, matches);
+        }
+
+        if (matches.isEmpty()) {
+            return new EmptyInventoryImpl(this.adapter);
+        }
+        if (matches.size() == 1) {
+            return ((Lens<TInventory, TStack>) matches.get(0)).getAdapter(this.inventory, null);
+        }
+        // The result adapter holds on to the set, hand out a fresh copy
+        final MutableLensSet<TInventory, TStack> set = new MutableLensSetImpl<TInventory, TStack>(true);
+        for (Lens<?, ?> match : matches) {
+            set.add((Lens<TInventory, TStack>) match);
+        }
+        return this.toResult(resultProvider, set);
+    }
+
     @SuppressWarnings("unchecked")
     private Inventory toResult(ResultAdapterProvider<TInventory, TStack> resultProvider, MutableLensSet<TInventory, TStack> matches) {
         if (matches.size() == 0) {
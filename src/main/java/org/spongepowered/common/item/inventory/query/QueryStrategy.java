@@ -27,9 +27,24 @@
 import org.spongepowered.common.item.inventory.lens.Fabric;
 import org.spongepowered.common.item.inventory.lens.Lens;
 
+import javax.annotation.Nullable;
+
 public abstract class QueryStrategy<TInventory, TStack, TArgs> {
 
     public abstract QueryStrategy<TInventory, TStack, TArgs> with(TArgs[] args);
 
     public abstract boolean matches(Lens<TInventory, TStack> lens, Lens<TInventory, TStack> parent, Fabric<TInventory> inventory);
+
+    /**
+     * Gets a key for the arguments of this strategy if its matches only
+     * depend on the structure of the lens tree and never on the contents or
+     * the name of the inventory. The result of such a query is the same for
+     * every inventory sharing a lens tree, so it can be cached per tree.
+     *
+     * @return The arguments key, or null if results can not be cached
+     */
+    @Nullable
+    public Object getCacheKey() {
+        return null;
+    }
 }
@@ -157,7 +157,8 @@ public static void performBlockInventoryDrops(WorldServer worldServer, double x,
             } else {
                 final Multimap<BlockPos, ItemDropData> multimap = context.getBlockDropSupplier().get();
                 final BlockPos pos = new BlockPos(x, y, z);
-                final Collection<ItemDropData> itemStacks = multimap.get(pos);
+                final Collection<ItemDropData> itemStacks = mixinWorld.getCauseTracker().getItemDropMerger()
+                        .getDrops(multimap, pos.toLong(), multimap.get(pos));
                 for (int i = 0; i < inventory.getSizeInventory(); i++) {
                     final net.minecraft.item.ItemStack itemStack = inventory.getStackInSlot(i);
                     if (!itemStack.isEmpty()) {
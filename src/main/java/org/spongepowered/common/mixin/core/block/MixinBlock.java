@@ -270,7 +270,8 @@ private static boolean redirectGameRulesToCaptureItemDrops(GameRules gameRules,
             if (currentState.tracksBlockSpecificDrops()) {
                 final PhaseContext context = currentPhase.context;
                 final Multimap<BlockPos, ItemDropData> multimap = context.getCapturedBlockDrops();
-                final Collection<ItemDropData> itemStacks = multimap.get(pos);
+                final Collection<ItemDropData> itemStacks = mixin.getCauseTracker().getItemDropMerger()
+                        .getDrops(multimap, pos.toLong(), multimap.get(pos));
                 SpongeImplHooks.addItemStackToListForSpawning(itemStacks, ItemDropData.item(stack).position(VecHelper.toVector3d(pos)).build());
                 return false;
             }
@@ -48,6 +48,7 @@
 import org.spongepowered.asm.mixin.injection.Constant;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.ModifyConstant;
+import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.asm.util.PrettyPrinter;
@@ -72,6 +73,11 @@ public abstract class MixinEntityItem extends MixinEntity implements Item, IMixi
     @Shadow private int delayBeforeCanPickup;
     @Shadow private int age;
     @Shadow public abstract ItemStack getEntityItem();
+    @Shadow private boolean combineItems(EntityItem other) {
+        return false; // Shadowed
+    }
+    @Shadow private void searchForOtherItemsNearby() {
+    }
     /**
      * A simple cached value of the merge radius for this item.
      * Since the value is configurable, the first time searching for
@@ -108,6 +114,19 @@ private double getSearchRadius(double originalRadius) {
         return this.cachedRadius;
     }
 
+    @Redirect(method = "onUpdate", at = @At(value = "INVOKE", target = "Lnet/minecraft/entity/item/EntityItem;searchForOtherItemsNearby()V"))
+    private void onSearchForOtherItemsNearby(EntityItem self) {
+        // Items are merged in bulk by the world when an item merge interval is set
+        if (((IMixinWorldServer) this.world).getActiveConfig().getConfig().getWorld().getItemMergeInterval() <= 0) {
+            this.searchForOtherItemsNearby();
+        }
+    }
+
+    @Override
+    public boolean combineWith(EntityItem other) {
+        return this.combineItems(other);
+    }
+
     @Override
     public int getPickupDelay() {
         return this.infinitePickupDelay ? this.previousPickupDelay : this.delayBeforeCanPickup;
@@ -24,12 +24,16 @@
  */
 package org.spongepowered.common.mixin.core.network;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.channel.local.LocalAddress;
+import net.minecraft.network.EnumConnectionState;
 import net.minecraft.network.NetworkManager;
 import org.spongepowered.api.MinecraftVersion;
 import org.spongepowered.api.network.RemoteConnection;
+import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.common.SpongeMinecraftVersion;
@@ -39,14 +43,17 @@
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.net.UnknownHostException;
+import java.util.Queue;
 
 @SuppressWarnings("rawtypes")
 @Mixin(NetworkManager.class)
 public abstract class MixinNetworkManager extends SimpleChannelInboundHandler implements RemoteConnection, IMixinNetworkManager {
 
     @Shadow private Channel channel;
+    @Shadow @Final private Queue<?> outboundPacketsQueue;
 
     @Shadow public abstract SocketAddress getRemoteAddress();
+    @Shadow public abstract boolean isChannelOpen();
 
     private InetSocketAddress virtualHost;
     private MinecraftVersion version;
@@ -93,4 +100,20 @@ public MinecraftVersion getVersion() {
     public void setVersion(int version) {
         this.version = new SpongeMinecraftVersion(String.valueOf(version), version);
     }
+
+    @Override
+    public boolean sendEncodedPacket(ByteBuf encoded, boolean flush) {
+        // Anything queued must go out first, and local (singleplayer) channels
+        // pass packet objects around without an encoder
+        if (!this.isChannelOpen() || !this.outboundPacketsQueue.isEmpty() || this.channel.pipeline().get("encoder") == null
+                || this.channel.attr(NetworkManager.PROTOCOL_ATTRIBUTE_KEY).get() != EnumConnectionState.PLAY) {
+            return false;
+        }
+        if (flush) {
+            this.channel.writeAndFlush(encoded.duplicate()).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+        } else {
+            this.channel.write(encoded.duplicate()).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+        }
+        return true;
+    }
 }
@@ -43,6 +43,7 @@
 import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseData;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.service.permission.base.SpongeSubject;
 
 import java.net.InetSocketAddress;
 import java.util.Optional;
@@ -80,6 +81,14 @@ public void postGameStoppingEvent(CallbackInfo ci) {
         SpongeImpl.postShutdownEvents();
     }
 
+    // The op permission level is part of resolved permissions
+    @Inject(method = "setProperty", at = @At("RETURN"))
+    private void onSetProperty(String key, Object value, CallbackInfo ci) {
+        if ("op-permission-level".equals(key)) {
+            SpongeSubject.invalidatePermissionCaches();
+        }
+    }
+
     /**
      * @author zml - March 9th, 2016
      * @author blood - July 7th, 2016 - Add cause tracker handling for throwing pre change block checks
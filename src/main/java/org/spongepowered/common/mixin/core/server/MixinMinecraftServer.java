@@ -28,6 +28,7 @@
 import static com.google.common.base.Preconditions.checkState;
 
 import co.aikar.timings.TimingsManager;
+import co.aikar.timings.WorldTimingsHandler;
 import com.google.common.collect.ImmutableList;
 import net.minecraft.command.ICommandManager;
 import net.minecraft.command.ICommandSender;
@@ -90,6 +91,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.command.SpongeCommandManager;
+import org.spongepowered.common.config.category.WorldCategory;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.CauseTracker;
 import org.spongepowered.common.event.tracking.PhaseContext;
@@ -100,11 +102,15 @@
 import org.spongepowered.common.interfaces.IMixinSubject;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+import org.spongepowered.common.network.EncodedPackets;
 import org.spongepowered.common.profile.SpongeProfileManager;
 import org.spongepowered.common.resourcepack.SpongeResourcePack;
 import org.spongepowered.common.text.SpongeTexts;
+import org.spongepowered.common.util.DeferredFileWriter;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.SpawnAreaPrefetcher;
 import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.common.world.storage.PlayerDataWriter;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
 import java.io.IOException;
@@ -117,6 +123,7 @@
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
@@ -312,6 +319,12 @@ public void onServerStopping(CallbackInfo ci) {
         ((MinecraftServer) (Object) this).getPlayerProfileCache().save();
     }
 
+    @Inject(method = "stopServer()V", at = @At("RETURN"))
+    public void onServerStopped(CallbackInfo ci) {
+        PlayerDataWriter.flushAll();
+        DeferredFileWriter.flush();
+    }
+
     /**
      * @author blood - December 23rd, 2015
      * @author Zidane - March 13th, 2016
@@ -342,8 +355,19 @@ protected void loadAllWorlds(String overworldFolder, String worldName, long seed
      */
     @Overwrite
     protected void initialWorldChunkLoad() {
+        final SpawnAreaPrefetcher prefetcher = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useParallelSpawnPreparation()
+                ? SpawnAreaPrefetcher.start(this.worlds) : null;
         for (WorldServer worldServer: this.worlds) {
+            if (prefetcher != null) {
+                prefetcher.await(worldServer);
+            }
             this.prepareSpawnArea(worldServer);
+            if (prefetcher != null) {
+                prefetcher.release(worldServer);
+            }
+        }
+        if (prefetcher != null) {
+            prefetcher.finish();
         }
         this.clearCurrentTask();
     }
@@ -600,6 +624,7 @@ public void onServerTickStart(CallbackInfo ci) {
 
     @Inject(method = "tick", at = @At(value = "RETURN"))
     public void onServerTickEnd(CallbackInfo ci) {
+        EncodedPackets.flushPending();
         int lastAnimTick = SpongeCommonEventFactory.lastAnimationPacketTick;
         int lastPrimaryTick = SpongeCommonEventFactory.lastPrimaryPacketTick;
         int lastSecondaryTick = SpongeCommonEventFactory.lastSecondaryPacketTick;
@@ -662,14 +687,16 @@ private int getSaveTickInterval(int tickInterval) {
     @Overwrite
     protected void saveAllWorlds(boolean dontLog)
     {
-        for (WorldServer worldserver : this.worlds)
+        for (int index = 0; index < this.worlds.length; index++)
         {
+            final WorldServer worldserver = this.worlds[index];
             if (worldserver != null)
             {
                 // Sponge start - check auto save interval in world config
                 if (this.isDedicatedServer() && this.isServerRunning()) {
                     final IMixinWorldServer spongeWorld = (IMixinWorldServer) worldserver;
-                    final int autoSaveInterval = spongeWorld.getActiveConfig().getConfig().getWorld().getAutoSaveInterval();
+                    final WorldCategory worldCategory = spongeWorld.getActiveConfig().getConfig().getWorld();
+                    final int autoSaveInterval = worldCategory.getAutoSaveInterval();
                     final boolean logAutoSave = spongeWorld.getActiveConfig().getConfig().getLogging().worldAutoSaveLogging();
                     if (autoSaveInterval <= 0 || ((WorldProperties) worldserver.getWorldInfo()).getSerializationBehavior() != SerializationBehaviors.AUTOMATIC) {
                         if (logAutoSave) {
@@ -679,6 +706,13 @@ protected void saveAllWorlds(boolean dontLog)
                         }
                         continue;
                     }
+                    if (worldCategory.useIncrementalAutoSave()) {
+                        // Spread the worlds evenly over the interval so they don't all start saving on the same tick
+                        final int phase = (this.tickCounter + index * autoSaveInterval / this.worlds.length) % autoSaveInterval;
+                        this.saveWorldIncrementally(worldserver, phase, autoSaveInterval, worldCategory.getIncrementalAutoSaveMaxMillis(),
+                                logAutoSave);
+                        continue;
+                    }
                     if (this.tickCounter % autoSaveInterval != 0) {
                         continue;
                     }
@@ -700,6 +734,28 @@ protected void saveAllWorlds(boolean dontLog)
         }
     }
 
+    private void saveWorldIncrementally(WorldServer worldServer, int phase, int autoSaveInterval, int maxMillis, boolean logAutoSave) {
+        final IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) worldServer.getChunkProvider();
+        final WorldTimingsHandler timings = ((IMixinWorldServer) worldServer).getTimingsHandler();
+        timings.incrementalAutoSave.startTiming();
+        if (phase == 0) {
+            // Saves the level data and fires the save events, the queue below covers the remaining chunks
+            try {
+                worldServer.saveAllChunks(false, null);
+            } catch (MinecraftException ex) {
+                ex.printStackTrace();
+            }
+            final int backlog = chunkProvider.queueChunksForAutoSave();
+            if (logAutoSave) {
+                LOG.info("Auto-saving " + chunkProvider.getAutoSaveBacklog() + " chunks over " + autoSaveInterval + " ticks for level \'"
+                        + worldServer.getWorldInfo().getWorldName() + "\'/" + worldServer.provider.getDimensionType().getName()
+                        + (backlog > 0 ? " (" + backlog + " chunks were left over from the previous auto-save)" : ""));
+            }
+        }
+        chunkProvider.saveQueuedChunks(autoSaveInterval - phase, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxMillis));
+        timings.incrementalAutoSave.stopTiming();
+    }
+
     @Override
     public int getPlayerIdleTimeout() {
         return this.getMaxPlayerIdleMinutes();
@@ -25,6 +25,7 @@
 package org.spongepowered.common.mixin.core.server;
 
 import com.flowpowered.math.vector.Vector3d;
+import com.google.common.collect.ImmutableList;
 import com.mojang.authlib.GameProfile;
 import io.netty.buffer.Unpooled;
 import net.minecraft.entity.Entity;
@@ -110,6 +111,7 @@
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.entity.player.SpongeUser;
+import org.spongepowered.common.entity.player.TrackedUserCache;
 import org.spongepowered.common.event.tracking.CauseTracker;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.phase.PlayerPhase;
@@ -125,6 +127,8 @@
 import org.spongepowered.common.service.ban.SpongeIPBanList;
 import org.spongepowered.common.service.ban.SpongeUserListBans;
 import org.spongepowered.common.service.permission.SpongePermissionService;
+import org.spongepowered.common.service.permission.base.SpongeSubject;
+import org.spongepowered.common.service.user.UserIndex;
 import org.spongepowered.common.service.whitelist.SpongeUserListWhitelist;
 import org.spongepowered.common.text.SpongeTexts;
 import org.spongepowered.common.util.VecHelper;
@@ -240,9 +244,8 @@ public void initializeConnectionToPlayer(NetworkManager netManager, EntityPlayer
 
         // Sponge start - save changes to offline User before reading player data
         SpongeUser user = (SpongeUser) ((IMixinEntityPlayerMP) playerIn).getUserObject();
-        if (SpongeUser.dirtyUsers.contains(user)) {
-            user.save();
-        }
+        user.flushSave();
+        UserIndex.put(gameprofile);
         // Sponge end
 
         NBTTagCompound nbttagcompound = this.readPlayerDataFromFile(playerIn);
@@ -803,6 +806,7 @@ private void onPlayerLogOut(EntityPlayerMP player, CallbackInfo ci) {
         NBTTagCompound nbt = new NBTTagCompound();
         player.writeToNBT(nbt);
         ((SpongeUser) ((IMixinEntityPlayerMP) player).getUserObject()).readFromNbt(nbt);
+        TrackedUserCache.invalidate(player.getUniqueID());
 
         // Remove player reference from scoreboard
         ((IMixinServerScoreboard) ((Player) player).getScoreboard()).removePlayer(player, false);
@@ -822,7 +826,7 @@ private void onPlayerRemoveFromWorldFromDisconnect(WorldServer world, Entity pla
 
     @Inject(method = "saveAllPlayerData()V", at = @At("RETURN"))
     private void onSaveAllPlayerData(CallbackInfo ci) {
-        for (SpongeUser user : SpongeUser.dirtyUsers) {
+        for (SpongeUser user : ImmutableList.copyOf(SpongeUser.dirtyUsers)) {
             user.save();
         }
     }
@@ -857,6 +861,12 @@ private void onWritePlayerFile(EntityPlayerMP playerMP, CallbackInfo callbackInf
         SpongePlayerDataHandler.savePlayer(playerMP.getUniqueID());
     }
 
+    // Op levels are part of resolved permissions and depend on whether everyone can send commands
+    @Inject(method = "setCommandsAllowedForAll", at = @At("RETURN"))
+    private void onSetCommandsAllowedForAll(CallbackInfo ci) {
+        SpongeSubject.invalidatePermissionCaches();
+    }
+
     @ModifyVariable(method = "sendPlayerPermissionLevel", at = @At("HEAD"), argsOnly = true)
     public int fixPermLevel(int permLevel) {
         // If a non-default permission service is being used, then the op level will always be 0.
@@ -26,15 +26,18 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.google.gson.Gson;
 import com.mojang.authlib.Agent;
 import com.mojang.authlib.GameProfileRepository;
 import com.mojang.authlib.ProfileLookupCallback;
 import com.mojang.authlib.minecraft.MinecraftSessionService;
+import com.mojang.authlib.yggdrasil.ProfileNotFoundException;
 import net.minecraft.server.management.PlayerProfileCache;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.profile.GameProfile;
@@ -52,18 +55,23 @@
 import org.spongepowered.common.interfaces.server.management.IMixinPlayerProfileCacheEntry;
 import org.spongepowered.common.profile.callback.MapProfileLookupCallback;
 import org.spongepowered.common.profile.callback.SingleProfileLookupCallback;
+import org.spongepowered.common.util.DeferredFileWriter;
 import org.spongepowered.common.util.SpongeUsernameCache;
 
+import java.io.File;
 import java.util.Collection;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.Deque;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.Nullable;
 
@@ -76,8 +84,15 @@ public abstract class MixinPlayerProfileCache implements IMixinPlayerProfileCach
     @Nullable @Shadow public abstract com.mojang.authlib.GameProfile getProfileByUUID(UUID uniqueId);
     @Shadow public abstract void save();
     @Shadow private void addEntry(com.mojang.authlib.GameProfile profile, @Nullable Date expiry) { }
-    // Thread-safe queue
-    private Queue<com.mojang.authlib.GameProfile> profiles = new ConcurrentLinkedQueue<>();
+    @Shadow private List<?> getEntriesWithLimit(int limitSize) { return null; }
+    @Shadow @Final private Gson gson;
+    @Shadow @Final private File usercacheFile;
+    // Thread-safe map of the profiles to the stamp of their last use, so
+    // that using a profile doesn't need to search a queue. The same profiles
+    // ordered by their stamp, so that saving doesn't need to sort them.
+    private Map<com.mojang.authlib.GameProfile, Long> profiles = new ConcurrentHashMap<>();
+    private final NavigableMap<Long, com.mojang.authlib.GameProfile> profilesByLastUse = new ConcurrentSkipListMap<>();
+    private final AtomicLong lastUse = new AtomicLong();
     private boolean canSave = false;
 
     @Inject(method = "addEntry(Lcom/mojang/authlib/GameProfile;Ljava/util/Date;)V", at = @At(value = "RETURN"))
@@ -87,47 +102,69 @@ public void onAddEntry(com.mojang.authlib.GameProfile profile, Date date, Callba
 
     @Redirect(method = "addEntry(Lcom/mojang/authlib/GameProfile;Ljava/util/Date;)V", at = @At(value = "INVOKE", target = "Ljava/util/Deque;remove(Ljava/lang/Object;)Z", remap = false))
     public boolean onAddEntryRemove(Deque<com.mojang.authlib.GameProfile> list, Object obj) {
-        return this.profiles.remove(obj);
+        return this.removeUse(obj);
     }
 
     @Redirect(method = "addEntry(Lcom/mojang/authlib/GameProfile;Ljava/util/Date;)V", at = @At(value = "INVOKE", target = "Ljava/util/Deque;addFirst(Ljava/lang/Object;)V", remap = false))
     public void onAddEntryAdd(Deque<com.mojang.authlib.GameProfile> list, Object obj) {
-        this.profiles.add((com.mojang.authlib.GameProfile) obj);
+        this.markUsed((com.mojang.authlib.GameProfile) obj);
     }
 
     @Redirect(method = "getGameProfileForUsername", at = @At(value = "INVOKE", target = "Ljava/util/Deque;remove(Ljava/lang/Object;)Z", ordinal = 0, remap = false))
     public boolean onGetGameProfileForUsernameRemove1(Deque<com.mojang.authlib.GameProfile> list, Object obj) {
-        return this.profiles.remove(obj);
+        return this.removeUse(obj);
     }
 
     @Redirect(method = "getGameProfileForUsername", at = @At(value = "INVOKE", target = "Ljava/util/Deque;remove(Ljava/lang/Object;)Z", ordinal = 1, remap = false))
     public boolean onGetGameProfileForUsernameRemove2(Deque<com.mojang.authlib.GameProfile> list, Object obj) {
-        return this.profiles.remove(obj);
+        return this.removeUse(obj);
     }
 
     @Redirect(method = "getGameProfileForUsername", at = @At(value = "INVOKE", target = "Ljava/util/Deque;addFirst(Ljava/lang/Object;)V", remap = false))
     public void onGetGameProfileForUsernameAdd(Deque<com.mojang.authlib.GameProfile> list, Object obj) {
-        this.profiles.add((com.mojang.authlib.GameProfile) obj);
+        this.markUsed((com.mojang.authlib.GameProfile) obj);
     }
 
     @Redirect(method = "getByUUID", at = @At(value = "INVOKE", target = "Ljava/util/Deque;remove(Ljava/lang/Object;)Z", remap = false))
     public boolean onGetByUUIDRemove(Deque<com.mojang.authlib.GameProfile> list, Object obj) {
-        return this.profiles.remove(obj);
+        return this.removeUse(obj);
     }
 
     @Redirect(method = "getByUUID", at = @At(value = "INVOKE", target = "Ljava/util/Deque;addFirst(Ljava/lang/Object;)V", remap = false))
     public void onGetByUUIDAdd(Deque<com.mojang.authlib.GameProfile> list, Object obj) {
-        this.profiles.add((com.mojang.authlib.GameProfile) obj);
+        this.markUsed((com.mojang.authlib.GameProfile) obj);
     }
 
     @Redirect(method = "getEntriesWithLimit", at = @At(value = "INVOKE", target = "Ljava/util/Deque;iterator()Ljava/util/Iterator;", remap = false))
     public Iterator<com.mojang.authlib.GameProfile> onGetEntriesWithLimit(Deque<com.mojang.authlib.GameProfile> list) {
-        return this.profiles.iterator();
+        // Most recently used first, like the vanilla deque
+        return this.profilesByLastUse.descendingMap().values().iterator();
+    }
+
+    private void markUsed(com.mojang.authlib.GameProfile profile) {
+        final long stamp = this.lastUse.incrementAndGet();
+        this.profilesByLastUse.put(stamp, profile);
+        // Every replaced stamp is handed to exactly one caller, even when the
+        // same profile is used concurrently, so each one is removed once
+        final Long previous = this.profiles.put(profile, stamp);
+        if (previous != null) {
+            this.profilesByLastUse.remove(previous);
+        }
+    }
+
+    private boolean removeUse(Object profile) {
+        final Long stamp = this.profiles.remove(profile);
+        if (stamp == null) {
+            return false;
+        }
+        this.profilesByLastUse.remove(stamp);
+        return true;
     }
 
     @Redirect(method = "load", at = @At(value = "INVOKE", target = "Ljava/util/Deque;clear()V", remap = false))
     public void onLoad(Deque<com.mojang.authlib.GameProfile> list) {
         this.profiles.clear();
+        this.profilesByLastUse.clear();
     }
 
     @Redirect(method = "lookupProfile(Lcom/mojang/authlib/GameProfileRepository;Ljava/lang/String;)Lcom/mojang/authlib/GameProfile;",
@@ -152,9 +189,13 @@ private static void onGetGameProfile(GameProfileRepository repository, String[]
 
     @Inject(method = "save", at = @At("HEAD"), cancellable = true)
     public void onSave(CallbackInfo ci) {
-        if (!this.canSave) {
-            ci.cancel();
+        if (this.canSave) {
+            // The entries are immutable, so only the list is copied before
+            // it is serialized and written off-thread
+            final List<?> entries = ImmutableList.copyOf(this.getEntriesWithLimit(1000));
+            DeferredFileWriter.schedule(this.usercacheFile.toPath(), () -> this.gson.toJson(entries));
         }
+        ci.cancel();
     }
 
     @Override
@@ -179,7 +220,7 @@ public boolean remove(GameProfile profile) {
 
         if (this.uuidToProfileEntryMap.containsKey(uniqueId)) {
             this.uuidToProfileEntryMap.remove(uniqueId);
-            this.profiles.remove(profile);
+            this.removeUse(profile);
 
             if (profile.getName().isPresent()) {
                 this.usernameToProfileEntryMap.remove(profile.getName().get().toLowerCase(Locale.ROOT));
@@ -210,6 +251,7 @@ public Collection<GameProfile> remove(Iterable<GameProfile> profiles) {
     public void clear() {
         this.uuidToProfileEntryMap.clear();
         this.profiles.clear();
+        this.profilesByLastUse.clear();
         this.usernameToProfileEntryMap.clear();
         this.save();
     }
@@ -317,8 +359,21 @@ public Map<String, Optional<GameProfile>> getByNames(Iterable<String> names) {
 
     @Override
     public Optional<GameProfile> lookupByName(String name) {
-        SingleProfileLookupCallback callback = new SingleProfileLookupCallback();
+        return this.lookupByName(name, new SingleProfileLookupCallback());
+    }
+
+    @Override
+    public Optional<GameProfile> lookupByNameOrThrow(String name) throws Exception {
+        final SingleProfileLookupCallback callback = new SingleProfileLookupCallback();
+        final Optional<GameProfile> profile = this.lookupByName(name, callback);
+        final Optional<Exception> failure = callback.getFailure();
+        if (failure.isPresent() && !(failure.get() instanceof ProfileNotFoundException)) {
+            throw failure.get();
+        }
+        return profile;
+    }
 
+    private Optional<GameProfile> lookupByName(String name, SingleProfileLookupCallback callback) {
         SpongeImpl.getServer().getGameProfileRepository().findProfilesByNames(new String[]{name}, Agent.MINECRAFT, callback);
 
         Optional<GameProfile> profile = callback.getResult();
@@ -414,14 +469,13 @@ public com.mojang.authlib.GameProfile getByNameNoLookup(String username) {
             com.mojang.authlib.GameProfile profile = entry.getGameProfile();
             this.uuidToProfileEntryMap.remove(profile.getId());
             this.usernameToProfileEntryMap.remove(profile.getName().toLowerCase(Locale.ROOT));
-            this.profiles.remove(profile);
+            this.removeUse(profile);
             entry = null;
         }
 
         if (entry != null) {
             com.mojang.authlib.GameProfile profile = entry.getGameProfile();
-            this.profiles.remove(profile);
-            this.profiles.add(profile);
+            this.markUsed(profile);
         }
 
         return entry == null ? null : entry.getGameProfile();
@@ -83,6 +83,7 @@ public void onConstructed(CallbackInfo ci) {
                 .add(FilteringSlotAdapter.class, (i) -> new FilteringSlotLensImpl(i, (s) -> this.isItemValidForSlot(i, (ItemStack) s), t
                         -> this.isItemValidForSlot(i, (ItemStack) org.spongepowered.api.item.inventory.ItemStack.of(t, 1))))
                 .build();
+        // The slot lenses above validate against this instance, so unlike the furnace the lens tree is not shared
         this.lens = new BrewingStandInventoryLens((InventoryAdapter<IInventory, ItemStack>) this, this.slots);
     }
 
@@ -48,6 +48,7 @@
 import org.spongepowered.common.item.inventory.lens.Fabric;
 import org.spongepowered.common.item.inventory.lens.Lens;
 import org.spongepowered.common.item.inventory.lens.SlotProvider;
+import org.spongepowered.common.item.inventory.lens.impl.LensTemplates;
 import org.spongepowered.common.item.inventory.lens.impl.collections.SlotCollection;
 import org.spongepowered.common.item.inventory.lens.impl.fabric.DefaultInventoryFabric;
 import org.spongepowered.common.item.inventory.lens.impl.minecraft.FurnaceInventoryLens;
@@ -68,15 +69,20 @@ public abstract class MixinTileEntityFurnace extends MixinTileEntityLockable imp
     @Inject(method = "<init>", at = @At("RETURN"))
     public void onConstructed(CallbackInfo ci) {
         this.fabric = new DefaultInventoryFabric(this);
-        this.slots = new SlotCollection.Builder().add(1)
-                .add(FuelSlotAdapter.class, (i) -> new FuelSlotLensImpl(i, (s) -> TileEntityFurnace.isItemFuel((ItemStack) s) || isBucket(
-                        (ItemStack) s), t -> {
-                            final ItemStack nmsStack = (ItemStack) org.spongepowered.api.item.inventory.ItemStack.of(t, 1);
-                    return TileEntityFurnace.isItemFuel(nmsStack) || isBucket(nmsStack);
-                }))
-                .add(OutputSlotAdapter.class, (i) -> new OutputSlotLensImpl(i, (s) -> false, (t) -> false))
-                .build();
-        this.lens = new FurnaceInventoryLens((InventoryAdapter<IInventory, ItemStack>) this, slots);
+        // The furnace lens tree does not depend on the instance, share it
+        final LensTemplates.Template template = LensTemplates.get((InventoryAdapter<IInventory, ItemStack>) this, adapter -> {
+            final SlotCollection slots = new SlotCollection.Builder().add(1)
+                    .add(FuelSlotAdapter.class, (i) -> new FuelSlotLensImpl(i, (s) -> TileEntityFurnace.isItemFuel((ItemStack) s) || isBucket(
+                            (ItemStack) s), t -> {
+                                final ItemStack nmsStack = (ItemStack) org.spongepowered.api.item.inventory.ItemStack.of(t, 1);
+                        return TileEntityFurnace.isItemFuel(nmsStack) || isBucket(nmsStack);
+                    }))
+                    .add(OutputSlotAdapter.class, (i) -> new OutputSlotLensImpl(i, (s) -> false, (t) -> false))
+                    .build();
+            return new LensTemplates.Template(slots, new FurnaceInventoryLens(adapter, slots));
+        });
+        this.slots = template.getSlots();
+        this.lens = template.getLens();
     }
 
     @Override
@@ -71,7 +71,6 @@
 import org.spongepowered.api.util.AABB;
 import org.spongepowered.api.util.Direction;
 import org.spongepowered.api.util.PositionOutOfBoundsException;
-import org.spongepowered.api.util.Tuple;
 import org.spongepowered.api.util.annotation.NonnullByDefault;
 import org.spongepowered.api.world.BlockChangeFlag;
 import org.spongepowered.api.world.Chunk;
@@ -102,6 +101,9 @@
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.extent.EntityHitCollector;
+import org.spongepowered.common.world.extent.EntityHitVisitor;
+import org.spongepowered.common.world.extent.EntityVisitor;
 import org.spongepowered.common.world.extent.ExtentViewDownsize;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBiomeVolumeWorker;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBlockVolumeWorker;
@@ -109,10 +111,8 @@
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -561,6 +561,10 @@ public IBlockState setBlockState(BlockPos pos, IBlockState newState, IBlockState
         // Sponge end
 
         extendedblockstorage.set(xPos, yPos & 15, zPos, newState);
+        // Sponge - explosions may have cached the old state, or results depending on it
+        if (!this.world.isRemote) {
+            ((IMixinWorldServer) this.world).getExplosionCache().onBlockChange(pos);
+        }
 
         // Sponge Start
         // if (block1 != block) // Sponge - Forge removes this change.
@@ -681,6 +685,16 @@ public Optional<User> getBlockNotifier(BlockPos pos) {
         return Optional.empty();
     }
 
+    @Override
+    public Optional<UUID> getBlockOwnerUUID(BlockPos pos) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<UUID> getBlockNotifierUUID(BlockPos pos) {
+        return Optional.empty();
+    }
+
     @Override
     public void setBlockNotifier(BlockPos pos, @Nullable UUID uuid) {
 
@@ -908,9 +922,10 @@ private Set<EntityHit> getIntersectingEntities(Vector3d start, Vector3d end, Vec
             // Doesn't intersect the chunk, ignore it
             return Collections.emptySet();
         }
-        final Set<EntityHit> intersections = new HashSet<>();
-        getIntersectingEntities(start, direction, distance, filter, entryAndExitY.getX(), entryAndExitY.getY(), intersections);
-        return intersections;
+        final EntityHitCollector collector = new EntityHitCollector(start, direction, distance, filter);
+        visitIntersectingEntities(start.getX(), start.getY(), start.getZ(), direction.getX(), direction.getY(), direction.getZ(), distance,
+                entryAndExitY.getX(), entryAndExitY.getY(), collector);
+        return collector.getIntersections();
     }
 
     @Nullable
@@ -961,54 +976,108 @@ private Vector2d getEntryAndExitY(Vector3d start, Vector3d end, Vector3d directi
     }
 
     @Override
-    public void getIntersectingEntities(Vector3d start, Vector3d direction, double distance,
-            java.util.function.Predicate<EntityHit> filter, double entryY, double exitY, Set<EntityHit> intersections) {
+    public boolean visitIntersectingEntities(double startX, double startY, double startZ, double directionX, double directionY,
+            double directionZ, double distance, double entryY, double exitY, EntityHitVisitor visitor) {
         // Order the entry and exit y coordinates by magnitude
         final double yMin = Math.min(entryY, exitY);
         final double yMax = Math.max(entryY, exitY);
         // Added offset matches the one in Chunk.getEntitiesWithinAABBForEntity
         final int lowestSubChunk = GenericMath.clamp(GenericMath.floor((yMin - 2) / 16D), 0, this.entityLists.length - 1);
         final int highestSubChunk = GenericMath.clamp(GenericMath.floor((yMax + 2) / 16D), 0, this.entityLists.length - 1);
-        // For each sub-chunk, perform intersections in its entity list
+        // Only the sub-chunks crossed by the ray hold candidate entities
         for (int i = lowestSubChunk; i <= highestSubChunk; i++) {
-            getIntersectingEntities(this.entityLists[i], start, direction, distance, filter, intersections);
+            for (Entity entity : this.entityLists[i]) {
+                if (!visitIntersectingEntity(entity, startX, startY, startZ, directionX, directionY, directionZ, distance, visitor)) {
+                    return false;
+                }
+            }
         }
+        return true;
     }
 
-    private void getIntersectingEntities(Collection<Entity> entities, Vector3d start, Vector3d direction, double distance,
-            java.util.function.Predicate<EntityHit> filter, Set<EntityHit> intersections) {
-        // Check each entity in the list
-        for (Entity entity : entities) {
-            final org.spongepowered.api.entity.Entity spongeEntity = (org.spongepowered.api.entity.Entity) entity;
-            final Optional<AABB> box = spongeEntity.getBoundingBox();
-            // Can't intersect if the entity doesn't have a bounding box
-            if (!box.isPresent()) {
-                continue;
+    private static boolean visitIntersectingEntity(Entity entity, double startX, double startY, double startZ, double directionX,
+            double directionY, double directionZ, double distance, EntityHitVisitor visitor) {
+        final double hitDistance = getRayEntryDistance(entity.getEntityBoundingBox(), startX, startY, startZ, directionX, directionY,
+                directionZ, distance);
+        if (hitDistance < 0) {
+            return true;
+        }
+        if (!visitor.visit(entity, hitDistance)) {
+            return false;
+        }
+        // If the entity has parts, they may be hit too
+        final Entity[] parts = entity.getParts();
+        if (parts != null) {
+            for (Entity part : parts) {
+                if (!visitIntersectingEntity(part, startX, startY, startZ, directionX, directionY, directionZ, distance, visitor)) {
+                    return false;
+                }
             }
-            // Ignore entities that didn't intersect
-            final Optional<Tuple<Vector3d, Vector3d>> optionalIntersection = box.get().intersects(start, direction);
-            if (!optionalIntersection.isPresent()) {
-                continue;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the distance along the ray at which it enters the box, using the
+     * slab method on the native box so that no vectors are allocated.
+     *
+     * @return The entry distance, zero if the ray starts in the box, or a
+     *     negative value if the ray doesn't hit the box within the distance
+     */
+    private static double getRayEntryDistance(@Nullable AxisAlignedBB box, double startX, double startY, double startZ, double directionX,
+            double directionY, double directionZ, double distance) {
+        // Degenerate boxes aren't considered as bounding boxes, see MixinEntity.getBoundingBox
+        if (box == null || box.minX == box.maxX || box.minY == box.maxY || box.minZ == box.maxZ) {
+            return -1;
+        }
+        double tMin = 0;
+        double tMax = distance;
+        if (directionX == 0) {
+            if (startX < box.minX || startX > box.maxX) {
+                return -1;
             }
-            // Check that the entity isn't too far away
-            final Tuple<Vector3d, Vector3d> intersection = optionalIntersection.get();
-            final double distanceSquared = intersection.getFirst().sub(start).lengthSquared();
-            if (distanceSquared > distance * distance) {
-                continue;
+        } else {
+            final double t1 = (box.minX - startX) / directionX;
+            final double t2 = (box.maxX - startX) / directionX;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+        }
+        if (directionY == 0) {
+            if (startY < box.minY || startY > box.maxY) {
+                return -1;
             }
-            // Now test the filter on the entity and intersection
-            final EntityHit hit = new EntityHit(spongeEntity, intersection.getFirst(), intersection.getSecond(), Math.sqrt(distanceSquared));
-            if (!filter.test(hit)) {
-                continue;
+        } else {
+            final double t1 = (box.minY - startY) / directionY;
+            final double t2 = (box.maxY - startY) / directionY;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+        }
+        if (directionZ == 0) {
+            if (startZ < box.minZ || startZ > box.maxZ) {
+                return -1;
             }
-            // If everything passes we have an intersection!
-            intersections.add(hit);
-            // If the entity has part, recurse on these
-            final Entity[] parts = entity.getParts();
-            if (parts != null && parts.length > 0) {
-                getIntersectingEntities(Arrays.asList(parts), start, direction, distance, filter, intersections);
+        } else {
+            final double t1 = (box.minZ - startZ) / directionZ;
+            final double t2 = (box.maxZ - startZ) / directionZ;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+        }
+        return tMin <= tMax ? tMin : -1;
+    }
+
+    @Override
+    public boolean visitEntitiesWithinAABB(AxisAlignedBB box, EntityVisitor visitor) {
+        // Added offset matches the one in Chunk.getEntitiesOfTypeWithinAAAB
+        final int lowestSubChunk = MathHelper.clamp(MathHelper.floor((box.minY - 2.0D) / 16.0D), 0, this.entityLists.length - 1);
+        final int highestSubChunk = MathHelper.clamp(MathHelper.floor((box.maxY + 2.0D) / 16.0D), 0, this.entityLists.length - 1);
+        for (int i = lowestSubChunk; i <= highestSubChunk; i++) {
+            for (Entity entity : this.entityLists[i]) {
+                if (entity.getEntityBoundingBox().intersectsWith(box) && !visitor.visit(entity)) {
+                    return false;
+                }
             }
         }
+        return true;
     }
 
     // Fast neighbor methods for internal use
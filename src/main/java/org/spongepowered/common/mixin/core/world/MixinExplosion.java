@@ -60,6 +60,7 @@
 import org.spongepowered.common.interfaces.world.IMixinExplosion;
 import org.spongepowered.common.interfaces.world.IMixinLocation;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.world.ExplosionCache;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -158,8 +159,11 @@ public Cause getCreatedCause() {
     @Final
     @Overwrite
     public void doExplosionA() {
-        // Sponge Start - If the explosion should not break blocks, don't bother calculating it
-        if (this.shouldBreakBlocks) {
+        // Sponge Start - If the explosion should not break blocks, don't bother calculating it.
+        // An identical explosion earlier in this tick may also have calculated it already.
+        @Nullable final ExplosionCache cache = this.getExplosionCache();
+        if (this.shouldBreakBlocks && (cache == null || !cache.addAffectedBlocks(this.explosionX, this.explosionY, this.explosionZ,
+                this.explosionSize, this.exploder, this.affectedBlockPositions))) {
             // Sponge End
             Set<BlockPos> set = Sets.<BlockPos>newHashSet();
             int i = 16;
@@ -182,7 +186,7 @@ public void doExplosionA() {
 
                             for (float f1 = 0.3F; f > 0.0F; f -= 0.22500001F) {
                                 BlockPos blockpos = new BlockPos(d4, d6, d8);
-                                IBlockState iblockstate = this.world.getBlockState(blockpos);
+                                IBlockState iblockstate = cache == null ? this.world.getBlockState(blockpos) : cache.getBlockState(blockpos); // Sponge
 
                                 if (iblockstate.getMaterial() != Material.AIR) {
                                     float f2 = this.exploder != null
@@ -207,7 +211,11 @@ public void doExplosionA() {
             }
 
             this.affectedBlockPositions.addAll(set);
-        } // Sponge - Finish if statement
+            // Sponge Start
+            if (cache != null) {
+                cache.putAffectedBlocks(this.explosionX, this.explosionY, this.explosionZ, this.explosionSize, this.exploder, set);
+            }
+        } // Sponge End - Finish if statement
         float f3 = this.explosionSize * 2.0F;
         int k1 = MathHelper.floor(this.explosionX - (double) f3 - 1.0D);
         int l1 = MathHelper.floor(this.explosionX + (double) f3 + 1.0D);
@@ -273,7 +281,10 @@ public void doExplosionA() {
                         d5 = d5 / d13;
                         d7 = d7 / d13;
                         d9 = d9 / d13;
-                        double d14 = (double) this.world.getBlockDensity(vec3d, entity.getEntityBoundingBox());
+                        // Sponge - entities with the same bounding box have the same exposure
+                        double d14 = (double) (cache == null
+                                               ? this.world.getBlockDensity(vec3d, entity.getEntityBoundingBox())
+                                               : cache.getBlockDensity(vec3d, entity.getEntityBoundingBox()));
                         double d10 = (1.0D - d12) * d14;
                         entity.attackEntityFrom(
                                 DamageSource.causeExplosionDamage((net.minecraft.world.Explosion) (Object) this), (float) ((int) ((d10 * d10 + d10) / 2.0D * 7.0D * (double) f3 + 1.0D)));
@@ -300,6 +311,14 @@ public void doExplosionA() {
         }
     }
 
+    @Nullable
+    private ExplosionCache getExplosionCache() {
+        if (this.world instanceof IMixinWorldServer && SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useExplosionCache()) {
+            return ((IMixinWorldServer) this.world).getExplosionCache();
+        }
+        return null;
+    }
+
     @Nullable
     private Location<World> location;
 
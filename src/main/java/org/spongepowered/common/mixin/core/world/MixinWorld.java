@@ -28,11 +28,12 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.flowpowered.math.GenericMath;
-import com.flowpowered.math.vector.Vector2d;
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.crash.CrashReport;
@@ -59,6 +60,8 @@
 import net.minecraft.util.SoundEvent;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.DifficultyInstance;
 import net.minecraft.world.EnumDifficulty;
 import net.minecraft.world.EnumSkyBlock;
@@ -72,6 +75,7 @@
 import net.minecraft.world.WorldType;
 import net.minecraft.world.biome.Biome;
 import net.minecraft.world.biome.BiomeProvider;
+import net.minecraft.world.chunk.IChunkProvider;
 import net.minecraft.world.gen.ChunkProviderServer;
 import net.minecraft.world.storage.ISaveHandler;
 import net.minecraft.world.storage.WorldInfo;
@@ -134,6 +138,9 @@
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.SpongeChunkPreGenerate;
+import org.spongepowered.common.world.extent.EntityHitCollector;
+import org.spongepowered.common.world.extent.EntityHitVisitor;
+import org.spongepowered.common.world.extent.EntityVisitor;
 import org.spongepowered.common.world.extent.ExtentViewDownsize;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBiomeVolumeWorker;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBlockVolumeWorker;
@@ -722,10 +729,33 @@ public Optional<AABB> getBlockSelectionBox(int x, int y, int z) {
     public Set<Entity> getIntersectingEntities(AABB box, Predicate<Entity> filter) {
         checkNotNull(box, "box");
         checkNotNull(filter, "filter");
-        return getEntitiesWithinAABB(net.minecraft.entity.Entity.class, VecHelper.toMC(box), entity -> filter.test((Entity) entity))
-                .stream()
-                .map(entity -> (Entity) entity)
-                .collect(Collectors.toSet());
+        final Set<Entity> entities = new HashSet<>();
+        visitEntitiesWithinAABB(VecHelper.toMC(box), entity -> {
+            if (filter.test((Entity) entity)) {
+                entities.add((Entity) entity);
+            }
+            return true;
+        });
+        return entities;
+    }
+
+    @Override
+    public boolean visitEntitiesWithinAABB(AxisAlignedBB box, EntityVisitor visitor) {
+        // Added margin matches the one in World.getEntitiesWithinAABB
+        final int minChunkX = MathHelper.floor((box.minX - 2.0D) / 16.0D);
+        final int maxChunkX = MathHelper.floor((box.maxX + 2.0D) / 16.0D);
+        final int minChunkZ = MathHelper.floor((box.minZ - 2.0D) / 16.0D);
+        final int maxChunkZ = MathHelper.floor((box.maxZ + 2.0D) / 16.0D);
+        final IChunkProvider chunkProvider = ((WorldServer) (Object) this).getChunkProvider();
+        for (int x = minChunkX; x <= maxChunkX; x++) {
+            for (int z = minChunkZ; z <= maxChunkZ; z++) {
+                final net.minecraft.world.chunk.Chunk chunk = chunkProvider.getLoadedChunk(x, z);
+                if (chunk != null && !((IMixinChunk) chunk).visitEntitiesWithinAABB(box, visitor)) {
+                    return false;
+                }
+            }
+        }
+        return true;
     }
 
     @Override
@@ -760,87 +790,83 @@ public Set<EntityHit> getIntersectingEntities(Vector3d start, Vector3d direction
         checkNotNull(filter, "filter");
         // Ensure that the direction has unit length
         direction = direction.normalize();
-        // If the direction is vertical only, we don't need to do any chunk tracing, just defer immediately to the containing chunk
-        if (direction.getX() == 0 && direction.getZ() == 0) {
-            return getIntersectingEntities(start, direction.getY(), distance, filter);
+        final EntityHitCollector collector = new EntityHitCollector(start, direction, distance, filter);
+        visitIntersectingEntities(start.getX(), start.getY(), start.getZ(), direction.getX(), direction.getY(), direction.getZ(), distance,
+                collector);
+        return collector.getIntersections();
+    }
 
+    @Override
+    public boolean visitIntersectingEntities(double startX, double startY, double startZ, double directionX, double directionY,
+            double directionZ, double distance, EntityHitVisitor visitor) {
+        // The chunks near the ray are visited from several traced chunks, only visit each once
+        final LongSet visitedChunks = new LongOpenHashSet();
+        // If the direction is vertical only, we don't need to do any chunk tracing, just visit the containing chunk
+        if (directionX == 0 && directionZ == 0) {
+            return visitIntersectingEntities(MathHelper.floor(startX) >> 4, MathHelper.floor(startZ) >> 4, visitedChunks, startX, startY,
+                    startZ, directionX, directionY, directionZ, distance, visitor);
         }
         // Adapted from BlockRay
         final int chunkWidth = SpongeChunkLayout.CHUNK_SIZE.getX();
         // Figure out the direction of the ray for each axis
-        final int xPlaneIncrement = direction.getX() >= 0 ? chunkWidth : -chunkWidth;
-        final int zPlaneIncrement = direction.getZ() >= 0 ? chunkWidth : -chunkWidth;
+        final int xPlaneIncrement = directionX >= 0 ? chunkWidth : -chunkWidth;
+        final int zPlaneIncrement = directionZ >= 0 ? chunkWidth : -chunkWidth;
         // First planes are for the chunk that contains the coordinates
-        double xInChunk = GenericMath.mod(start.getX(), chunkWidth);
-        double zInChunk = GenericMath.mod(start.getZ(), chunkWidth);
-        int xPlaneNext = (int) (start.getX() - xInChunk);
-        int zPlaneNext = (int) (start.getZ() - zInChunk);
+        double xInChunk = GenericMath.mod(startX, chunkWidth);
+        double zInChunk = GenericMath.mod(startZ, chunkWidth);
+        int xPlaneNext = (int) (startX - xInChunk);
+        int zPlaneNext = (int) (startZ - zInChunk);
         // Correct the next planes to they start just behind the starting position
-        if (xInChunk != 0 && direction.getX() < 0) {
+        if (xInChunk != 0 && directionX < 0) {
             xPlaneNext += chunkWidth;
         }
-        if (zInChunk != 0 && direction.getZ() < 0) {
+        if (zInChunk != 0 && directionZ < 0) {
             zPlaneNext += chunkWidth;
         }
         // Compute the first intersection solutions for each plane
-        double xPlaneT = (xPlaneNext - start.getX()) / direction.getX();
-        double zPlaneT = (zPlaneNext - start.getZ()) / direction.getZ();
+        double xPlaneT = (xPlaneNext - startX) / directionX;
+        double zPlaneT = (zPlaneNext - startZ) / directionZ;
         // Keep track of the last distance using the t multiplier
         double currentT = 0;
-        // Keep tack of the last intersection y coordinate
-        double xCurrent = start.getX();
-        double yCurrent = start.getY();
-        double zCurrent = start.getZ();
+        // Keep tack of the last intersection coordinates
+        double xCurrent = startX;
+        double zCurrent = startZ;
         // Trace each chunks until the remaining distance goes below 0
         double remainingDistance = distance;
         // Trace the chunks in 2D to find which contain possibly intersecting entities
-        final Set<EntityHit> intersecting = new HashSet<>();
         do {
             final double nextT;
             final double xNext;
-            final double yNext;
             final double zNext;
             // Find the closest intersection and its coordinates
             if (xPlaneT < zPlaneT) {
                 nextT = xPlaneT;
                 // Update current position
                 xNext = xPlaneNext;
-                zNext = direction.getZ() * nextT + start.getZ();
+                zNext = directionZ * nextT + startZ;
                 // Prepare next intersection
                 xPlaneNext += xPlaneIncrement;
-                xPlaneT = (xPlaneNext - start.getX()) / direction.getX();
+                xPlaneT = (xPlaneNext - startX) / directionX;
             } else {
                 nextT = zPlaneT;
                 // Update current position
-                xNext = direction.getX() * nextT + start.getX();
+                xNext = directionX * nextT + startX;
                 zNext = zPlaneNext;
                 // Prepare next intersection
                 zPlaneNext += zPlaneIncrement;
-                zPlaneT = (zPlaneNext - start.getZ()) / direction.getZ();
+                zPlaneT = (zPlaneNext - startZ) / directionZ;
             }
-            // Don't go over the distance when calculating the next intersection y
-            yNext = direction.getY() * Math.min(nextT, distance) + start.getY();
             // Ignore the first few intersections behind the starting position
             // although we still use them to position the current coordinates on a chunk boundary
             if (nextT >= 0) {
                 // Get the coordinates of the chunk that was last entered (correct for entering from the back plane)
                 xInChunk = GenericMath.mod(xCurrent, chunkWidth);
                 zInChunk = GenericMath.mod(zCurrent, chunkWidth);
-                final int xChunk = (int) (xCurrent - (xInChunk == 0 && direction.getX() < 0 ? chunkWidth : xInChunk));
-                final int zChunk = (int) (zCurrent - (zInChunk == 0 && direction.getZ() < 0 ? chunkWidth : zInChunk));
-                // Make sure the start position in the chunk is not before the world start position
-                final Vector3d chunkStart = currentT <= 0 ? start : new Vector3d(xCurrent, yCurrent, zCurrent);
-                // Get the chunk and call the intersection method to perform the task locally
-                final Optional<Chunk> chunk = getChunkAtBlock(xChunk, 0, zChunk);
-                if (chunk.isPresent()) {
-                    ((IMixinChunk) chunk.get())
-                            .getIntersectingEntities(chunkStart, direction, remainingDistance, filter, chunkStart.getY(), yNext, intersecting);
-                }
-                // If the intersections are near another chunk, its entities might be partially in the current chunk, so include it also
-                final IMixinChunk nearIntersections = getChunkNearIntersections(xChunk, zChunk, xCurrent, zCurrent, xNext, zNext);
-                if (nearIntersections != null) {
-                    nearIntersections
-                            .getIntersectingEntities(chunkStart, direction, remainingDistance, filter, chunkStart.getY(), yNext, intersecting);
+                final int xChunk = (int) (xCurrent - (xInChunk == 0 && directionX < 0 ? chunkWidth : xInChunk));
+                final int zChunk = (int) (zCurrent - (zInChunk == 0 && directionZ < 0 ? chunkWidth : zInChunk));
+                if (!visitIntersectingEntities(xChunk >> 4, zChunk >> 4, visitedChunks, startX, startY, startZ, directionX, directionY,
+                        directionZ, distance, visitor)) {
+                    return false;
                 }
                 // Remove the chunk from the distance
                 remainingDistance -= nextT - Math.max(0, currentT);
@@ -848,99 +874,65 @@ public Set<EntityHit> getIntersectingEntities(Vector3d start, Vector3d direction
             // Update the current intersection to the new one
             currentT = nextT;
             xCurrent = xNext;
-            yCurrent = yNext;
             zCurrent = zNext;
         } while (remainingDistance >= 0);
-        return intersecting;
+        return true;
     }
 
-    private IMixinChunk getChunkNearIntersections(int xChunk, int zChunk, double xCurrent, double zCurrent, double xNext, double zNext) {
-        final int chunkWidth = SpongeChunkLayout.CHUNK_SIZE.getX();
-        // Chunk corner coordinates
-        final Vector2d c1 = new Vector2d(xChunk, zChunk);
-        final Vector2d c2 = new Vector2d(xChunk + chunkWidth, zChunk);
-        final Vector2d c3 = new Vector2d(xChunk, zChunk + chunkWidth);
-        final Vector2d c4 = new Vector2d(xChunk + chunkWidth, zChunk + chunkWidth);
-        // The square of the distance we consider as being near
-        final int nearDistance2 = 2 * 2;
-        // Under the assumption that both intersections aren't on the same face
-        // Look for two intersection being near the same corner
-        final boolean d11 = c1.distanceSquared(xCurrent, zCurrent) <= nearDistance2;
-        final boolean d21 = c1.distanceSquared(xNext, zNext) <= nearDistance2;
-        if (d11 && d21) {
-            // Near corner -x, -z
-            return (IMixinChunk) getChunkAtBlock(xChunk - chunkWidth, 0, zChunk - chunkWidth).orElse(null);
-        }
-        final boolean d12 = c2.distanceSquared(xCurrent, zCurrent) <= nearDistance2;
-        final boolean d22 = c2.distanceSquared(xNext, zNext) <= nearDistance2;
-        if (d12 && d22) {
-            // Near corner +x, -z
-            return (IMixinChunk) getChunkAtBlock(xChunk + chunkWidth, 0, zChunk - chunkWidth).orElse(null);
-        }
-        final boolean d13 = c3.distanceSquared(xCurrent, zCurrent) <= nearDistance2;
-        final boolean d23 = c3.distanceSquared(xNext, zNext) <= nearDistance2;
-        if (d13 && d23) {
-            // Near corner -x, +z
-            return (IMixinChunk) getChunkAtBlock(xChunk - chunkWidth, 0, zChunk + chunkWidth).orElse(null);
-        }
-        final boolean d14 = c4.distanceSquared(xCurrent, zCurrent) <= nearDistance2;
-        final boolean d24 = c4.distanceSquared(xNext, zNext) <= nearDistance2;
-        if (d14 && d24) {
-            // Near corner +x, +z
-            return (IMixinChunk) getChunkAtBlock(xChunk + chunkWidth, 0, zChunk + chunkWidth).orElse(null);
-        }
-        // Look for two intersections being near the corners on the same face
-        if (d11 && d23 || d21 && d13) {
-            // Near face -x
-            return (IMixinChunk) getChunkAtBlock(xChunk - chunkWidth, 0, zChunk).orElse(null);
-        }
-        if (d11 && d22 || d21 && d12) {
-            // Near face -z
-            return (IMixinChunk) getChunkAtBlock(xChunk, 0, zChunk - chunkWidth).orElse(null);
-        }
-        if (d14 && d22 || d24 && d12) {
-            // Near face +x
-            return (IMixinChunk) getChunkAtBlock(xChunk + chunkWidth, 0, zChunk).orElse(null);
-        }
-        if (d14 && d23 || d24 && d13) {
-            // Near face +z
-            return (IMixinChunk) getChunkAtBlock(xChunk, 0, zChunk + chunkWidth).orElse(null);
+    private boolean visitIntersectingEntities(int chunkX, int chunkZ, LongSet visitedChunks, double startX, double startY, double startZ,
+            double directionX, double directionY, double directionZ, double distance, EntityHitVisitor visitor) {
+        // Entities of the neighbour chunks might be partially in the traced chunk, so include them also.
+        // Each chunk is only kept if the ray passes near its column.
+        for (int x = chunkX - 1; x <= chunkX + 1; x++) {
+            for (int z = chunkZ - 1; z <= chunkZ + 1; z++) {
+                if (visitedChunks.add(ChunkPos.asLong(x, z)) && !visitChunkIntersectingEntities(x, z, startX, startY, startZ, directionX,
+                        directionY, directionZ, distance, visitor)) {
+                    return false;
+                }
+            }
         }
-        return null;
-    }
-
-    private Set<EntityHit> getIntersectingEntities(Vector3d start, double yDirection, double distance, Predicate<EntityHit> filter) {
-        final Set<EntityHit> intersecting = new HashSet<>();
-        // Current chunk
-        final Vector3d direction = yDirection < 0 ? Vector3d.UNIT_Y.negate() : Vector3d.UNIT_Y;
-        final double endY = start.getY() + yDirection * distance;
-        final Vector3i chunkPos = SpongeChunkLayout.instance.forceToChunk(start.toInt());
-        ((IMixinChunk) getChunk(chunkPos).get()).getIntersectingEntities(start, direction, distance, filter, start.getY(), endY, intersecting);
-        // Check adjacent chunks if near them
-        final int nearDistance = 2;
-        // Neighbour -x chunk
-        final Vector3i chunkBlockPos = SpongeChunkLayout.instance.forceToWorld(chunkPos);
-        if (start.getX() - chunkBlockPos.getX() <= nearDistance) {
-            ((IMixinChunk) getChunk(chunkPos.add(-1, 0, 0)).get())
-                    .getIntersectingEntities(start, direction, distance, filter, start.getY(), endY, intersecting);
+        return true;
+    }
+
+    private boolean visitChunkIntersectingEntities(int chunkX, int chunkZ, double startX, double startY, double startZ, double directionX,
+            double directionY, double directionZ, double distance, EntityHitVisitor visitor) {
+        final net.minecraft.world.chunk.Chunk chunk = ((WorldServer) (Object) this).getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+        if (chunk == null) {
+            return true;
         }
-        // Neighbour -z chunk
-        if (start.getZ() - chunkBlockPos.getZ() <= nearDistance) {
-            ((IMixinChunk) getChunk(chunkPos.add(0, 0, -1)).get())
-                    .getIntersectingEntities(start, direction, distance, filter, start.getY(), endY, intersecting);
+        // Find where the ray is in the chunk column, increased by a margin of two blocks like in MixinChunk.getEntryAndExitY
+        final double minX = (chunkX << 4) - 2;
+        final double maxX = (chunkX << 4) + 18;
+        final double minZ = (chunkZ << 4) - 2;
+        final double maxZ = (chunkZ << 4) + 18;
+        double tMin = 0;
+        double tMax = distance;
+        if (directionX == 0) {
+            if (startX < minX || startX > maxX) {
+                return true;
+            }
+        } else {
+            final double t1 = (minX - startX) / directionX;
+            final double t2 = (maxX - startX) / directionX;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
         }
-        // Neighbour +x chunk
-        final int chunkWidth = SpongeChunkLayout.CHUNK_SIZE.getX();
-        if (chunkBlockPos.getX() + chunkWidth - start.getX() <= nearDistance) {
-            ((IMixinChunk) getChunk(chunkPos.add(1, 0, 0)).get())
-                    .getIntersectingEntities(start, direction, distance, filter, start.getY(), endY, intersecting);
+        if (directionZ == 0) {
+            if (startZ < minZ || startZ > maxZ) {
+                return true;
+            }
+        } else {
+            final double t1 = (minZ - startZ) / directionZ;
+            final double t2 = (maxZ - startZ) / directionZ;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
         }
-        // Neighbour +z chunk
-        if (chunkBlockPos.getZ() + chunkWidth - start.getZ() <= nearDistance) {
-            ((IMixinChunk) getChunk(chunkPos.add(0, 0, 1)).get())
-                    .getIntersectingEntities(start, direction, distance, filter, start.getY(), endY, intersecting);
+        if (tMin > tMax) {
+            // Doesn't pass near the chunk, ignore it
+            return true;
         }
-        return intersecting;
+        return ((IMixinChunk) chunk).visitIntersectingEntities(startX, startY, startZ, directionX, directionY, directionZ, distance,
+                directionY * tMin + startY, directionY * tMax + startY, visitor);
     }
 
     @Nullable
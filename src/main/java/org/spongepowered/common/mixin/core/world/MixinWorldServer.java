@@ -35,6 +35,8 @@
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.typesafe.config.ConfigRenderOptions;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockEventData;
 import net.minecraft.block.ITileEntityProvider;
@@ -51,12 +53,13 @@
 import net.minecraft.profiler.Profiler;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.management.PlayerChunkMap;
-import net.minecraft.server.management.PlayerList;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.IProgressUpdate;
 import net.minecraft.util.ITickable;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.DifficultyInstance;
 import net.minecraft.world.DimensionType;
 import net.minecraft.world.Explosion;
@@ -138,11 +141,13 @@
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.config.SpongeConfig;
+import org.spongepowered.common.config.category.WorldCategory;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.data.persistence.ConfigurateTranslator;
 import org.spongepowered.common.data.util.DataQueries;
 import org.spongepowered.common.effect.particle.SpongeParticleEffect;
 import org.spongepowered.common.effect.particle.SpongeParticleHelper;
+import org.spongepowered.common.entity.EntityItemMerger;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.event.InternalNamedCauses;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
@@ -176,6 +181,7 @@
 import org.spongepowered.common.registry.type.event.InternalSpawnTypes;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.ExplosionCache;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.border.PlayerBorderListener;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
@@ -220,6 +226,7 @@ public abstract class MixinWorldServer extends MixinWorld implements IMixinWorld
     protected long weatherStartTime;
     protected Weather prevWeather;
     protected WorldTimingsHandler timings = new WorldTimingsHandler((WorldServer) (Object) this);
+    private final ExplosionCache explosionCache = new ExplosionCache((WorldServer) (Object) this);
     private int chunkGCTickCount = 0;
     private int chunkGCLoadThreshold = 0;
     private int chunkGCTickInterval = 600;
@@ -713,6 +720,14 @@ public void updateEntities() {
             this.provider.onWorldUpdateEntities();
         }
         super.updateEntities();
+
+        // Sponge start - merge items in bulk, replacing the per-item search
+        final WorldCategory worldCategory = this.getActiveConfig().getConfig().getWorld();
+        final int itemMergeInterval = worldCategory.getItemMergeInterval();
+        if (itemMergeInterval > 0 && this.worldInfo.getWorldTotalTime() % itemMergeInterval == 0) {
+            EntityItemMerger.mergeItems((WorldServer) (Object) this, Math.max(0, worldCategory.getItemMergeRadius()));
+        }
+        // Sponge end
     }
 
     @Redirect(method = "updateBlockTick", at = @At(value = "INVOKE", target="Lnet/minecraft/block/Block;updateTick(Lnet/minecraft/world/World;Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/block/state/IBlockState;Ljava/util/Random;)V"))
@@ -999,9 +1014,7 @@ public boolean spawnEntities(Iterable<? extends Entity> entities, Cause cause) {
         final SpawnEntityEvent.Custom event = SpongeEventFactory.createSpawnEntityEventCustom(cause, entitiesToSpawn, this);
         SpongeImpl.postEvent(event);
         if (!event.isCancelled()) {
-            for (Entity entity : event.getEntities()) {
-                this.forceSpawnEntity(entity);
-            }
+            this.forceSpawnEntities(event.getEntities());
         }
         return event.isCancelled();
     }
@@ -1448,6 +1461,44 @@ private boolean forceSpawnEntity(net.minecraft.entity.Entity entity, int chunkX,
         return true;
     }
 
+    @Override
+    public void forceSpawnEntities(Collection<? extends Entity> entities) {
+        if (entities.size() == 1) {
+            this.forceSpawnEntity(entities.iterator().next());
+            return;
+        }
+        // Group the entities by chunk, so that each chunk is only looked up once
+        final Long2ObjectMap<List<net.minecraft.entity.Entity>> entitiesByChunk = new Long2ObjectOpenHashMap<>();
+        for (Entity entity : entities) {
+            final net.minecraft.entity.Entity minecraftEntity = (net.minecraft.entity.Entity) entity;
+            final int chunkX = MathHelper.floor(minecraftEntity.posX) >> 4;
+            final int chunkZ = MathHelper.floor(minecraftEntity.posZ) >> 4;
+            if (minecraftEntity instanceof EntityPlayer || minecraftEntity instanceof EntityLightningBolt) {
+                this.forceSpawnEntity(minecraftEntity, chunkX, chunkZ);
+                continue;
+            }
+            final long chunkKey = ChunkPos.asLong(chunkX, chunkZ);
+            List<net.minecraft.entity.Entity> chunkEntities = entitiesByChunk.get(chunkKey);
+            if (chunkEntities == null) {
+                chunkEntities = new ArrayList<>();
+                entitiesByChunk.put(chunkKey, chunkEntities);
+            }
+            chunkEntities.add(minecraftEntity);
+        }
+        for (List<net.minecraft.entity.Entity> chunkEntities : entitiesByChunk.values()) {
+            final net.minecraft.entity.Entity first = chunkEntities.get(0);
+            final net.minecraft.world.chunk.Chunk chunk =
+                    this.getChunkFromChunkCoords(MathHelper.floor(first.posX) >> 4, MathHelper.floor(first.posZ) >> 4);
+            for (net.minecraft.entity.Entity entity : chunkEntities) {
+                chunk.addEntity(entity);
+            }
+            this.loadedEntityList.addAll(chunkEntities);
+            for (net.minecraft.entity.Entity entity : chunkEntities) {
+                this.onSpongeEntityAdded(entity);
+            }
+        }
+    }
+
 
     @Override
     public SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockState extended, BlockPos pos, int updateFlag) {
@@ -1769,6 +1820,11 @@ public WorldTimingsHandler getTimingsHandler() {
         return this.timings;
     }
 
+    @Override
+    public ExplosionCache getExplosionCache() {
+        return this.explosionCache;
+    }
+
     /**************************** EFFECT ****************************************/
 
     @Override
@@ -1831,15 +1887,7 @@ public void spawnParticles(ParticleEffect particleEffect, Vector3d position, int
         List<Packet<?>> packets = SpongeParticleHelper.toPackets((SpongeParticleEffect) particleEffect, position);
 
         if (!packets.isEmpty()) {
-            PlayerList playerList = this.mcServer.getPlayerList();
-
-            double x = position.getX();
-            double y = position.getY();
-            double z = position.getZ();
-
-            for (Packet<?> packet : packets) {
-                playerList.sendToAllNearExcept(null, x, y, z, radius, this.getDimensionId(), packet);
-            }
+            SpongeParticleHelper.sendToNearbyPlayers((WorldServer) (Object) this, packets, position, radius);
         }
     }
 
@@ -26,6 +26,7 @@
 
 import com.flowpowered.math.vector.Vector3d;
 import com.google.common.collect.Maps;
+import com.google.common.io.ByteStreams;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.item.EntityMinecart;
@@ -64,15 +65,22 @@
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
 
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Mixin(AnvilChunkLoader.class)
 @Implements(@Interface(iface = IMixinAnvilChunkLoader.class, prefix = "loader$"))
 public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
 
+    private static final byte[] NO_CHUNK_DATA = new byte[0];
+    // Stands in for a chunk while it is being read, it is only replaced by the data if the chunk wasn't queued for saving meanwhile
+    private static final byte[] READING_CHUNK_DATA = new byte[0];
     private static final String ENTITY_LIST_CREATE_FROM_NBT =
             "Lnet/minecraft/entity/EntityList;createEntityFromNBT(Lnet/minecraft/nbt/NBTTagCompound;Lnet/minecraft/world/World;)Lnet/minecraft/entity/Entity;";
 
@@ -80,6 +88,9 @@ public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
     @Shadow @Final private Map<ChunkPos, NBTTagCompound> chunksToRemove;
     @Shadow @Final private File chunkSaveLocation;
 
+    // Uncompressed chunk data read ahead of time by prefetchChunk, an empty array marks a chunk with no stored data
+    private final Map<Long, byte[]> prefetchedChunks = new ConcurrentHashMap<>();
+
     @Inject(method = "writeChunkToNBT", at = @At(value = "RETURN"))
     public void onWriteChunkToNBT(net.minecraft.world.chunk.Chunk chunkIn, World worldIn, NBTTagCompound compound, CallbackInfo ci) {
         IMixinChunk chunk = (IMixinChunk) chunkIn;
@@ -208,4 +219,57 @@ public Path getWorldDir() {
         return this.chunkSaveLocation.toPath();
     }
 
+    @Override
+    public boolean prefetchChunk(int x, int z) throws IOException {
+        final long key = ChunkPos.asLong(x, z);
+        final byte[] existing = this.prefetchedChunks.putIfAbsent(key, READING_CHUNK_DATA);
+        if (existing != null) {
+            return existing.length > 0;
+        }
+        // The region file is outdated while the chunk waits to be written. The
+        // writer adds the chunk to the pending coordinates before taking it out
+        // of the queue, so checking in this order never misses it.
+        final ChunkPos pos = new ChunkPos(x, z);
+        if (this.chunksToRemove.containsKey(pos) || this.pendingAnvilChunksCoordinates.contains(pos)) {
+            this.prefetchedChunks.remove(key, READING_CHUNK_DATA);
+            return true;
+        }
+        final byte[] data;
+        try (DataInputStream stream = RegionFileCache.getChunkInputStream(this.chunkSaveLocation, x, z)) {
+            data = stream == null ? NO_CHUNK_DATA : ByteStreams.toByteArray(stream);
+        } catch (IOException e) {
+            this.prefetchedChunks.remove(key, READING_CHUNK_DATA);
+            throw e;
+        }
+        this.prefetchedChunks.replace(key, READING_CHUNK_DATA, data);
+        return data.length > 0;
+    }
+
+    @Override
+    public void clearPrefetchedChunks() {
+        this.prefetchedChunks.clear();
+    }
+
+    @Inject(method = "addChunkToPending", at = @At("RETURN"))
+    private void onAddChunkToPending(ChunkPos pos, NBTTagCompound compound, CallbackInfo ci) {
+        // A newer copy is queued to be written, never hand out the prefetched one. This
+        // runs after the chunk was queued, so a read which started before that is either
+        // dropped here or sees the queued chunk and is never stored.
+        if (!this.prefetchedChunks.isEmpty()) {
+            this.prefetchedChunks.remove(ChunkPos.asLong(pos.chunkXPos, pos.chunkZPos));
+        }
+    }
+
+    @Redirect(method = "loadChunk", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/chunk/storage/RegionFileCache;getChunkInputStream"
+            + "(Ljava/io/File;II)Ljava/io/DataInputStream;"), require = 0, expect = 0)
+    private DataInputStream onGetChunkInputStream(File regionDir, int x, int z) {
+        if (!this.prefetchedChunks.isEmpty()) {
+            final byte[] data = this.prefetchedChunks.remove(ChunkPos.asLong(x, z));
+            if (data != null && data != READING_CHUNK_DATA) {
+                return data.length == 0 ? null : new DataInputStream(new ByteArrayInputStream(data));
+            }
+        }
+        return RegionFileCache.getChunkInputStream(regionDir, x, z);
+    }
+
 }
@@ -0,0 +1,73 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.world.chunk.storage;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.interfaces.world.IMixinExtendedBlockStorage;
+import org.spongepowered.common.world.extent.SectionSnapshot;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+@Mixin(ExtendedBlockStorage.class)
+public abstract class MixinExtendedBlockStorage implements IMixinExtendedBlockStorage {
+
+    // Snapshots that still read from this section. They are weakly
+    // referenced, so an unused snapshot never has to be detached.
+    @Nullable private List<WeakReference<SectionSnapshot>> snapshots;
+
+    @Override
+    public void addSnapshot(SectionSnapshot snapshot) {
+        if (this.snapshots == null) {
+            this.snapshots = new ArrayList<>(1);
+        } else {
+            // Sections which are snapshotted repeatedly but never changed would otherwise collect cleared references
+            this.snapshots.removeIf(reference -> reference.get() == null);
+        }
+        this.snapshots.add(new WeakReference<>(snapshot));
+    }
+
+    @Inject(method = "set", at = @At("HEAD"))
+    private void onSet(int x, int y, int z, IBlockState state, CallbackInfo ci) {
+        if (this.snapshots != null) {
+            for (WeakReference<SectionSnapshot> reference : this.snapshots) {
+                final SectionSnapshot snapshot = reference.get();
+                if (snapshot != null) {
+                    snapshot.detach();
+                }
+            }
+            this.snapshots = null;
+        }
+    }
+
+}
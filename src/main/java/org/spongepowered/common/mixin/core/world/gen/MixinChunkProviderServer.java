@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.mixin.core.world.gen;
 
+import co.aikar.timings.WorldTimingsHandler;
 import com.flowpowered.math.vector.Vector3i;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import net.minecraft.util.math.ChunkPos;
@@ -67,6 +68,8 @@
 import org.spongepowered.common.world.storage.SpongeChunkDataStream;
 import org.spongepowered.common.world.storage.WorldStorageUtil;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -80,6 +83,8 @@ public abstract class MixinChunkProviderServer implements WorldStorage, IMixinCh
     private long chunkUnloadDelay = 15000;
     private int maxChunkUnloads = 100;
 
+    private final Deque<Chunk> autoSaveQueue = new ArrayDeque<>();
+
     @Shadow @Final public WorldServer world;
     @Shadow @Final private IChunkLoader chunkLoader;
     @Shadow public IChunkGenerator chunkGenerator;
@@ -242,6 +247,54 @@ public long getChunkUnloadDelay() {
         return this.chunkUnloadDelay;
     }
 
+    @Override
+    public IChunkLoader getChunkLoader() {
+        return this.chunkLoader;
+    }
+
+    @Override
+    public int queueChunksForAutoSave() {
+        final int backlog = this.autoSaveQueue.size();
+        this.autoSaveQueue.clear();
+        for (Chunk chunk : this.id2ChunkMap.values()) {
+            if (chunk.needsSaving(true)) {
+                this.autoSaveQueue.add(chunk);
+            }
+        }
+        return backlog;
+    }
+
+    @Override
+    public int saveQueuedChunks(int ticksRemaining, long deadline) {
+        if (this.autoSaveQueue.isEmpty() || this.world.disableLevelSaving) {
+            return 0;
+        }
+        final WorldTimingsHandler timings = ((IMixinWorldServer) this.world).getTimingsHandler();
+        final int share = (this.autoSaveQueue.size() + ticksRemaining - 1) / Math.max(1, ticksRemaining);
+        int saved = 0;
+        while (saved < share && !this.autoSaveQueue.isEmpty()) {
+            final Chunk chunk = this.autoSaveQueue.poll();
+            // Chunks unloaded since they were queued have already been saved by the unload
+            if (this.id2ChunkMap.get(ChunkPos.asLong(chunk.xPosition, chunk.zPosition)) != chunk || !chunk.needsSaving(true)) {
+                continue;
+            }
+            timings.incrementalAutoSaveChunk.startTiming();
+            this.saveChunkData(chunk);
+            chunk.setModified(false);
+            timings.incrementalAutoSaveChunk.stopTiming();
+            saved++;
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+        }
+        return saved;
+    }
+
+    @Override
+    public int getAutoSaveBacklog() {
+        return this.autoSaveQueue.size();
+    }
+
     /**
      * @author blood - October 20th, 2016
      * @reason Refactors entire method to not use the droppedChunksSet by
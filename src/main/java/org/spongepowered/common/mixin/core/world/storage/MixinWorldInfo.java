@@ -83,6 +83,7 @@
 import org.spongepowered.common.registry.type.world.DimensionTypeRegistryModule;
 import org.spongepowered.common.registry.type.world.PortalAgentRegistryModule;
 import org.spongepowered.common.registry.type.world.WorldGeneratorModifierRegistryModule;
+import org.spongepowered.common.service.permission.base.SpongeSubject;
 import org.spongepowered.common.util.FunctionalUtil;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.persistence.JsonTranslator;
@@ -396,6 +397,13 @@ public boolean areCommandsAllowed() {
     @Override
     public void setCommandsAllowed(boolean state) {
         this.allowCommands = state;
+        // Whether commands are allowed decides the op level of the singleplayer owner
+        SpongeSubject.invalidatePermissionCaches();
+    }
+
+    @Inject(method = "setAllowCommands", at = @At("RETURN"))
+    private void onSetAllowCommands(CallbackInfo ci) {
+        SpongeSubject.invalidatePermissionCaches();
     }
 
     @Override
@@ -30,7 +30,6 @@
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.world.World;
-import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.world.LocatableBlock;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
@@ -47,70 +46,95 @@
 @Mixin(net.minecraft.world.chunk.Chunk.class)
 public class MixinChunk_Collisions {
 
+    private static final int NO_COLLISION_LIMIT = -1;
+
     @Shadow @Final private World world;
 
-    @Inject(method = "getEntitiesWithinAABBForEntity",
-            at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false), cancellable = true)
-    public void onAddCollisionEntity(Entity entityIn, AxisAlignedBB aabb, List<Entity> listToFill, Predicate<? super Entity> predicate,
+    // The limit of the running query, resolved once when the query enters the chunk
+    private int collisionLimit = NO_COLLISION_LIMIT;
+
+    @Inject(method = "getEntitiesWithinAABBForEntity", at = @At("HEAD"), cancellable = true)
+    public void onCollisionQueryStart(Entity entityIn, AxisAlignedBB aabb, List<Entity> listToFill, Predicate<? super Entity> predicate,
             CallbackInfo ci) {
         // ignore players and entities with parts (ex. EnderDragon)
         if (this.world.isRemote || entityIn == null || entityIn instanceof EntityPlayer || entityIn.getParts() != null) {
+            this.collisionLimit = NO_COLLISION_LIMIT;
             return;
         }
 
-        if (!allowEntityCollision(listToFill)) {
+        this.collisionLimit = getCollisionLimit();
+        // The list is shared by all the chunks of the query, skip the scan if an earlier chunk reached the limit
+        if (isCollisionLimitReached(listToFill)) {
             ci.cancel();
         }
     }
 
-    @Inject(method = "getEntitiesOfTypeWithinAAAB",
-            at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false), cancellable = true)
-    public <T extends Entity> void onAddCollisionEntity(Class<? extends T> entityClass, AxisAlignedBB aabb, List<T> listToFill,
+    @Inject(method = "getEntitiesOfTypeWithinAAAB", at = @At("HEAD"), cancellable = true)
+    public <T extends Entity> void onCollisionQueryStart(Class<? extends T> entityClass, AxisAlignedBB aabb, List<T> listToFill,
             Predicate<? super T> p_177430_4_, CallbackInfo ci) {
         // ignore player checks
         // ignore item check (ex. Hoppers)
         if (this.world.isRemote || EntityPlayer.class.isAssignableFrom(entityClass) || EntityItem.class == entityClass) {
+            this.collisionLimit = NO_COLLISION_LIMIT;
             return;
         }
 
-        if (!allowEntityCollision(listToFill)) {
+        this.collisionLimit = getCollisionLimit();
+        if (isCollisionLimitReached(listToFill)) {
             ci.cancel();
         }
     }
 
-    private <T extends Entity> boolean allowEntityCollision(List<T> listToFill) {
+    @Inject(method = "getEntitiesWithinAABBForEntity",
+            at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false), cancellable = true)
+    public void onAddCollisionEntity(Entity entityIn, AxisAlignedBB aabb, List<Entity> listToFill, Predicate<? super Entity> predicate,
+            CallbackInfo ci) {
+        if (isCollisionLimitReached(listToFill)) {
+            ci.cancel();
+        }
+    }
+
+    @Inject(method = "getEntitiesOfTypeWithinAAAB",
+            at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false), cancellable = true)
+    public <T extends Entity> void onAddCollisionEntity(Class<? extends T> entityClass, AxisAlignedBB aabb, List<T> listToFill,
+            Predicate<? super T> p_177430_4_, CallbackInfo ci) {
+        if (isCollisionLimitReached(listToFill)) {
+            ci.cancel();
+        }
+    }
+
+    private boolean isCollisionLimitReached(List<?> listToFill) {
+        return this.collisionLimit >= 0 && listToFill.size() >= this.collisionLimit;
+    }
+
+    private int getCollisionLimit() {
         if (this.world instanceof IMixinWorldServer) {
             IMixinWorldServer spongeWorld = (IMixinWorldServer) this.world;
             if (spongeWorld.isProcessingExplosion()) {
                 // allow explosions
-                return true;
+                return NO_COLLISION_LIMIT;
             }
 
             final PhaseContext phaseContext = spongeWorld.getCauseTracker().getCurrentContext();
+            final IModData_Collisions spongeData;
             LocatableBlock locatable = phaseContext.getSource(LocatableBlock.class).orElse(null);
             if (locatable != null) {
-                BlockType blockType =locatable.getLocation().getBlockType();
-                IModData_Collisions spongeBlock = (IModData_Collisions) blockType;
-                if (spongeBlock.requiresCollisionsCacheRefresh()) {
-                    spongeBlock.initializeCollisionState(this.world);
-                    spongeBlock.requiresCollisionsCacheRefresh(false);
-                }
-    
-                return !((spongeBlock.getMaxCollisions() >= 0) && (listToFill.size() >= spongeBlock.getMaxCollisions()));
+                // The state is held by the locatable, no need to look the block up in the world
+                spongeData = (IModData_Collisions) locatable.getBlockState().getType();
             } else {
-                IModData_Collisions spongeEntity = phaseContext.getSource(IModData_Collisions.class).orElse(null);
-                if (spongeEntity != null) {
-                    if (spongeEntity.requiresCollisionsCacheRefresh()) {
-                        spongeEntity.initializeCollisionState(this.world);
-                        spongeEntity.requiresCollisionsCacheRefresh(false);
-                    }
-
-                    return !((spongeEntity.getMaxCollisions() >= 0) && (listToFill.size() >= spongeEntity.getMaxCollisions()));
+                spongeData = phaseContext.getSource(IModData_Collisions.class).orElse(null);
+                if (spongeData == null) {
+                    return NO_COLLISION_LIMIT;
                 }
-                return true;
             }
+            if (spongeData.requiresCollisionsCacheRefresh()) {
+                spongeData.initializeCollisionState(this.world);
+                spongeData.requiresCollisionsCacheRefresh(false);
+            }
+
+            return spongeData.getMaxCollisions() >= 0 ? spongeData.getMaxCollisions() : NO_COLLISION_LIMIT;
         }
 
-        return true;
+        return NO_COLLISION_LIMIT;
     }
 }
@@ -28,6 +28,7 @@
 import org.spongepowered.asm.mixin.Overwrite;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.event.tracking.ItemDropData;
+import org.spongepowered.common.event.tracking.ItemDropMerger;
 
 import java.util.Collection;
 
@@ -43,6 +44,11 @@ public class MixinSpongeImplHooks_Item_Pre_Merge {
      */
     @Overwrite
     public static void addItemStackToListForSpawning(Collection<ItemDropData> itemStacks, ItemDropData data) {
+        if (itemStacks instanceof ItemDropMerger.Drops) {
+            // The drops are indexed, no need to look through all of them
+            ((ItemDropMerger.Drops) itemStacks).merge(data);
+            return;
+        }
         final net.minecraft.item.ItemStack itemStack = data.getStack();
         if (itemStack.isEmpty()) {
             return;
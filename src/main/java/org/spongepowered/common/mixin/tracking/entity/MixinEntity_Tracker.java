@@ -25,19 +25,13 @@
 package org.spongepowered.common.mixin.tracking.entity;
 
 import net.minecraft.nbt.NBTTagCompound;
-import org.spongepowered.api.Sponge;
 import org.spongepowered.api.entity.Entity;
-import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.entity.living.player.User;
-import org.spongepowered.api.profile.GameProfile;
-import org.spongepowered.api.service.user.UserStorageService;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
-import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.data.util.NbtDataUtil;
+import org.spongepowered.common.entity.player.TrackedUserCache;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
-import org.spongepowered.common.profile.SpongeProfileManager;
-import org.spongepowered.common.util.SpongeUsernameCache;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -47,8 +41,6 @@
 @Mixin(value = net.minecraft.entity.Entity.class, priority = 1111)
 public abstract class MixinEntity_Tracker implements Entity, IMixinEntity {
 
-    private SpongeProfileManager spongeProfileManager;
-    private UserStorageService userStorageService;
     @Shadow public net.minecraft.world.World world;
 
     @Override
@@ -79,28 +71,13 @@ public void trackEntityUniqueId(String nbtKey, @Nullable UUID uuid) {
 
     @Override
     public Optional<UUID> getCreator() {
-        if (this.creator != null) {
-            return Optional.of(this.creator);
-        }
-        Optional<User> user = getTrackedPlayer(NbtDataUtil.SPONGE_ENTITY_CREATOR);
-        if (user.isPresent()) {
-            return Optional.of(user.get().getUniqueId());
-        } else {
-            return Optional.empty();
-        }
+        // Only the id is needed here, don't resolve the user
+        return Optional.ofNullable(getTrackedUniqueId(NbtDataUtil.SPONGE_ENTITY_CREATOR));
     }
 
     @Override
     public Optional<UUID> getNotifier() {
-        if (this.notifier != null) {
-            return Optional.of(this.notifier);
-        }
-        Optional<User> user = getTrackedPlayer(NbtDataUtil.SPONGE_ENTITY_NOTIFIER);
-        if (user.isPresent()) {
-            return Optional.of(user.get().getUniqueId());
-        } else {
-            return Optional.empty();
-        }
+        return Optional.ofNullable(getTrackedUniqueId(NbtDataUtil.SPONGE_ENTITY_NOTIFIER));
     }
 
     @Override
@@ -146,7 +123,7 @@ private UUID getTrackedUniqueId(String nbtKey) {
     @Override
     public Optional<User> getCreatorUser() {
         if (this.creator != null) {
-            return getUserForUuid(this.creator);
+            return TrackedUserCache.get(this.creator);
         }
         return getTrackedPlayer(NbtDataUtil.SPONGE_ENTITY_CREATOR);
     }
@@ -154,7 +131,7 @@ public Optional<User> getCreatorUser() {
     @Override
     public Optional<User> getNotifierUser() {
         if (this.notifier != null) {
-            return getUserForUuid(this.notifier);
+            return TrackedUserCache.get(this.notifier);
         }
         return getTrackedPlayer(NbtDataUtil.SPONGE_ENTITY_NOTIFIER);
     }
@@ -166,39 +143,7 @@ public Optional<User> getTrackedPlayer(String nbtKey) {
         if (uuid == null) {
             return Optional.empty();
         }
-        return getUserForUuid(uuid);
-
-    }
-
-    private Optional<User> getUserForUuid(UUID uuid) {
-        // get player if online
-        Player player = Sponge.getServer().getPlayer(uuid).orElse(null);
-        if (player != null) {
-            return Optional.of(player);
-        }
-        // player is not online, get user from storage if one exists
-        if (this.spongeProfileManager == null) {
-            this.spongeProfileManager = ((SpongeProfileManager) Sponge.getServer().getGameProfileManager());
-        }
-        if (this.userStorageService == null) {
-            this.userStorageService = SpongeImpl.getGame().getServiceManager().provide(UserStorageService.class).get();
-        }
-
-        // check username cache
-        String username = SpongeUsernameCache.getLastKnownUsername(uuid);
-        if (username != null) {
-            return this.userStorageService.get(GameProfile.of(uuid, username));
-        }
-
-        // check mojang cache
-        GameProfile profile = this.spongeProfileManager.getCache().getById(uuid).orElse(null);
-        if (profile != null) {
-            return this.userStorageService.get(profile);
-        }
-
-        // If we reach this point, queue UUID for async lookup and return empty
-        this.spongeProfileManager.lookupUserAsync(uuid);
-        return Optional.empty();
+        return TrackedUserCache.get(uuid);
     }
 
 }
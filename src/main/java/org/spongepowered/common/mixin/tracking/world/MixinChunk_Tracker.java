@@ -27,18 +27,14 @@
 import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
 import it.unimi.dsi.fastutil.shorts.Short2ObjectArrayMap;
 import net.minecraft.block.Block;
-import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
-import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.event.cause.NamedCause;
-import org.spongepowered.api.profile.GameProfile;
-import org.spongepowered.api.service.user.UserStorageService;
 import org.spongepowered.api.world.Chunk;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
@@ -49,15 +45,14 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.entity.player.TrackedUserCache;
 import org.spongepowered.common.event.tracking.CauseTracker;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.phase.generation.GenerationPhase;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
-import org.spongepowered.common.profile.SpongeProfileManager;
 import org.spongepowered.common.util.SpongeHooks;
-import org.spongepowered.common.util.SpongeUsernameCache;
 
 import java.util.Map;
 import java.util.Optional;
@@ -77,8 +72,6 @@ public abstract class MixinChunk_Tracker implements Chunk, IMixinChunk {
     private static final short XZ_MASK = 0xF;
     private static final short Y_SHORT_MASK = 0xFF;
     private static final int Y_INT_MASK = 0xFFFFFF;
-    private SpongeProfileManager spongeProfileManager;
-    private UserStorageService userStorageService;
 
     @Shadow @Final private World world;
     @Shadow @Final public int xPosition;
@@ -91,15 +84,6 @@ public abstract class MixinChunk_Tracker implements Chunk, IMixinChunk {
     public Map<Integer, PlayerTracker> trackedIntBlockPositions = new Int2ObjectArrayMap<>();
     public Map<Short, PlayerTracker> trackedShortBlockPositions = new Short2ObjectArrayMap<>();
 
-    @Final // need this constructor to never be overwritten by anything.
-    @Inject(method = "<init>(Lnet/minecraft/world/World;II)V", at = @At("RETURN"), remap = false)
-    public void onConstructedTracker(World world, int x, int z, CallbackInfo ci) {
-        if (((org.spongepowered.api.world.World)world).getUniqueId() != null) { // Client worlds have no UUID
-            this.spongeProfileManager = ((SpongeProfileManager) Sponge.getServer().getGameProfileManager());
-            this.userStorageService = SpongeImpl.getGame().getServiceManager().provide(UserStorageService.class).get();
-        }
-    }
-
     @Override
     public void addTrackedBlockPosition(Block block, BlockPos pos, User user, PlayerTracker.Type trackerType) {
         if (this.world.isRemote) {
@@ -164,108 +148,55 @@ public Map<Short, PlayerTracker> getTrackedShortPlayerPositions() {
 
     @Override
     public Optional<User> getBlockOwner(BlockPos pos) {
-        final int key = blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackedIntBlockPositions.get(key);
-        if (intTracker != null) {
-            UUID uuid = (((IMixinWorldInfo) this.world.getWorldInfo()).getUniqueIdForIndex(intTracker.ownerIndex)).orElse(null);
-            if (uuid != null) {
-                UUID userUniqueId = uuid;
-                // get player if online
-                EntityPlayer player = this.world.getPlayerEntityByUUID(userUniqueId);
-                if (player != null) {
-                    return Optional.of((User) player);
-                }
-                if (SpongeImpl.getGlobalConfig().getConfig().getWorld().getInvalidLookupUuids().contains(userUniqueId)) {
-                    this.trackedIntBlockPositions.remove(key);
-                    return Optional.empty();
-                }
-                // player is not online, get or create user from storage
-                return this.getUserFromId(userUniqueId);
-            }
-        } else {
-            final short shortKey = blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackedShortBlockPositions.get(shortKey);
-            if (shortTracker != null) {
-                Optional<UUID> uuid = (((IMixinWorldInfo) this.world.getWorldInfo()).getUniqueIdForIndex(shortTracker.ownerIndex));
-                if (uuid.isPresent()) {
-                    UUID userUniqueId = uuid.get();
-                    // get player if online
-                    EntityPlayer player = this.world.getPlayerEntityByUUID(userUniqueId);
-                    if (player != null) {
-                        return Optional.of((User) player);
-                    }
-                    if (SpongeImpl.getGlobalConfig().getConfig().getWorld().getInvalidLookupUuids().contains(userUniqueId)) {
-                        this.trackedShortBlockPositions.remove(shortKey);
-                        return Optional.empty();
-                    }
-                    // player is not online, get or create user from storage
-                    return this.getUserFromId(userUniqueId);
-                }
-            }
-        }
-
-        return Optional.empty();
+        return this.getBlockOwnerUUID(pos).flatMap(TrackedUserCache::get);
     }
 
     @Override
     public Optional<User> getBlockNotifier(BlockPos pos) {
+        return this.getBlockNotifierUUID(pos).flatMap(TrackedUserCache::get);
+    }
+
+    @Override
+    public Optional<UUID> getBlockOwnerUUID(BlockPos pos) {
+        return this.getTrackedUniqueId(pos, true);
+    }
+
+    @Override
+    public Optional<UUID> getBlockNotifierUUID(BlockPos pos) {
+        return this.getTrackedUniqueId(pos, false);
+    }
+
+    private Optional<UUID> getTrackedUniqueId(BlockPos pos, boolean owner) {
         final int intKey = blockPosToInt(pos);
         final PlayerTracker intTracker = this.trackedIntBlockPositions.get(intKey);
         if (intTracker != null) {
-            UUID uuid = (((IMixinWorldInfo) this.world.getWorldInfo()).getUniqueIdForIndex(intTracker.notifierIndex)).orElse(null);
-            if (uuid != null) {
-                UUID userUniqueId = uuid;
-                // get player if online
-                EntityPlayer player = this.world.getPlayerEntityByUUID(userUniqueId);
-                if (player != null) {
-                    return Optional.of((User) player);
-                }
-                if (SpongeImpl.getGlobalConfig().getConfig().getWorld().getInvalidLookupUuids().contains(userUniqueId)) {
-                    this.trackedIntBlockPositions.remove(intKey);
-                    return Optional.empty();
-                }
-                // player is not online, get or create user from storage
-                return this.getUserFromId(userUniqueId);
+            final UUID uuid = this.getUniqueIdForIndex(owner ? intTracker.ownerIndex : intTracker.notifierIndex);
+            if (uuid != null && isInvalidLookup(uuid)) {
+                this.trackedIntBlockPositions.remove(intKey);
+                return Optional.empty();
             }
-        } else if (this.trackedShortBlockPositions.get(blockPosToShort(pos)) != null) {
-            short blockPos = blockPosToShort(pos);
-            PlayerTracker tracker = this.trackedShortBlockPositions.get(blockPos);
-            UUID uuid = (((IMixinWorldInfo) this.world.getWorldInfo()).getUniqueIdForIndex(tracker.notifierIndex)).orElse(null);
-            if (uuid != null) {
-                UUID userUniqueId = uuid;
-                // get player if online
-                EntityPlayer player = this.world.getPlayerEntityByUUID(userUniqueId);
-                if (player != null) {
-                    return Optional.of((User) player);
-                }
-                if (SpongeImpl.getGlobalConfig().getConfig().getWorld().getInvalidLookupUuids().contains(userUniqueId)) {
-                    this.trackedShortBlockPositions.remove(blockPos);
-                    return Optional.empty();
-                }
-                // player is not online, get or create user from storage
-                return this.getUserFromId(userUniqueId);
+            return Optional.ofNullable(uuid);
+        }
+        final short shortKey = blockPosToShort(pos);
+        final PlayerTracker shortTracker = this.trackedShortBlockPositions.get(shortKey);
+        if (shortTracker != null) {
+            final UUID uuid = this.getUniqueIdForIndex(owner ? shortTracker.ownerIndex : shortTracker.notifierIndex);
+            if (uuid != null && isInvalidLookup(uuid)) {
+                this.trackedShortBlockPositions.remove(shortKey);
+                return Optional.empty();
             }
+            return Optional.ofNullable(uuid);
         }
-
         return Optional.empty();
     }
 
-    private Optional<User> getUserFromId(UUID uuid) {
-        // check username cache
-        String username = SpongeUsernameCache.getLastKnownUsername(uuid);
-        if (username != null) {
-            return this.userStorageService.get(GameProfile.of(uuid, username));
-        }
-
-        // check mojang cache
-        GameProfile profile = this.spongeProfileManager.getCache().getById(uuid).orElse(null);
-        if (profile != null) {
-            return this.userStorageService.get(profile);
-        }
+    @Nullable
+    private UUID getUniqueIdForIndex(int index) {
+        return ((IMixinWorldInfo) this.world.getWorldInfo()).getUniqueIdForIndex(index).orElse(null);
+    }
 
-        // If we reach this point, queue UUID for async lookup and return empty
-        this.spongeProfileManager.lookupUserAsync(uuid);
-        return Optional.empty();
+    private static boolean isInvalidLookup(UUID uuid) {
+        return SpongeImpl.getGlobalConfig().getConfig().getWorld().getInvalidLookupUuids().contains(uuid);
     }
 
     // Special setter used by API
@@ -0,0 +1,117 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+import com.google.common.collect.Sets;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.network.EnumConnectionState;
+import net.minecraft.network.EnumPacketDirection;
+import net.minecraft.network.NetworkManager;
+import net.minecraft.network.Packet;
+import net.minecraft.network.PacketBuffer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.IMixinNetworkManager;
+
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * Helpers for sending the same play state packet to many players while
+ * only serializing it once. The encoded form is written straight to each
+ * player's channel, see {@link IMixinNetworkManager#sendEncodedPacket}.
+ */
+public final class EncodedPackets {
+
+    // Only touched from the main thread
+    private static final Set<NetworkManager> pendingFlushes = Sets.newIdentityHashSet();
+
+    /**
+     * Encodes the given clientbound play state packet, including its id but
+     * without framing or compression. The returned buffer can be shared
+     * between any number of players and is never released.
+     *
+     * @param packet The packet
+     * @return The encoded packet, or null if it couldn't be encoded
+     */
+    @Nullable
+    public static ByteBuf encode(Packet<?> packet) {
+        final PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+        try {
+            buffer.writeVarInt(EnumConnectionState.PLAY.getPacketId(EnumPacketDirection.CLIENTBOUND, packet));
+            packet.writePacketData(buffer);
+        } catch (Exception e) {
+            return null;
+        }
+        return Unpooled.unreleasableBuffer(buffer);
+    }
+
+    /**
+     * Sends a packet to the player, using the encoded form if the player's
+     * connection allows it.
+     *
+     * @param player The player
+     * @param packet The packet
+     * @param encoded The encoded packet from {@link #encode(Packet)}, if any
+     * @param deferFlush Whether the channel may be flushed at the end of the
+     *     server tick instead of immediately, so that many small packets end
+     *     up in fewer writes to the socket
+     */
+    public static void send(EntityPlayerMP player, Packet<?> packet, @Nullable ByteBuf encoded, boolean deferFlush) {
+        final NetworkManager networkManager = player.connection.netManager;
+        if (encoded != null) {
+            final boolean defer = deferFlush && SpongeImpl.getServer().isCallingFromMinecraftThread();
+            if (((IMixinNetworkManager) networkManager).sendEncodedPacket(encoded, !defer)) {
+                if (defer) {
+                    pendingFlushes.add(networkManager);
+                }
+                return;
+            }
+        }
+        player.connection.sendPacket(packet);
+    }
+
+    /**
+     * Flushes the channels that had packets written with a deferred flush.
+     * Called at the end of every server tick.
+     */
+    public static void flushPending() {
+        if (pendingFlushes.isEmpty()) {
+            return;
+        }
+        for (NetworkManager networkManager : pendingFlushes) {
+            if (networkManager.isChannelOpen()) {
+                networkManager.channel().flush();
+            }
+        }
+        pendingFlushes.clear();
+    }
+
+    private EncodedPackets() {
+    }
+
+}
@@ -26,11 +26,16 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
-import org.spongepowered.api.Sponge;
+import net.minecraft.entity.player.EntityPlayer;
 import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.profile.GameProfileCache;
 import org.spongepowered.api.profile.GameProfileManager;
+import org.spongepowered.api.profile.ProfileNotFoundException;
 import org.spongepowered.api.profile.property.ProfileProperty;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.profile.query.GameProfileQuery;
@@ -40,43 +45,68 @@
 import org.spongepowered.common.util.SpongeUsernameCache;
 
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
 public final class SpongeProfileManager implements GameProfileManager {
 
     private static final int LOOKUP_INTERVAL = SpongeImpl.getGlobalConfig().getConfig().getWorld().getGameProfileQueryTaskInterval();
+    private static final int LOOKUP_BATCH_SIZE = SpongeImpl.getGlobalConfig().getConfig().getWorld().getGameProfileLookupBatchSize();
+    // How long a profile that could not be found is remembered as unknown
+    private static final int UNKNOWN_PROFILE_EXPIRY = 10;
     private final GameProfileCache defaultCache = (GameProfileCache) SpongeImpl.getServer().getPlayerProfileCache();
     private GameProfileCache cache = this.defaultCache;
     private ExecutorService gameLookupExecutorService = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("Sponge - Async User Lookup Thread").build());
+    private final TokenBucket lookupLimiter = new TokenBucket(LOOKUP_BATCH_SIZE, LOOKUP_INTERVAL, TimeUnit.SECONDS);
+    private final Set<UUID> queuedLookups = Sets.newConcurrentHashSet();
+    private final Map<UUID, CompletableFuture<GameProfile>> pendingById = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<GameProfile>> pendingByName = new ConcurrentHashMap<>();
+    private final Cache<UUID, Boolean> unknownIds = CacheBuilder.newBuilder()
+            .expireAfterWrite(UNKNOWN_PROFILE_EXPIRY, TimeUnit.MINUTES)
+            .build();
+    private final Cache<String, Boolean> unknownNames = CacheBuilder.newBuilder()
+            .expireAfterWrite(UNKNOWN_PROFILE_EXPIRY, TimeUnit.MINUTES)
+            .build();
 
     public SpongeProfileManager() {
     }
 
     public void lookupUserAsync(UUID uuid) {
-        this.gameLookupExecutorService.execute(() -> { 
-            if (SpongeUsernameCache.getLastKnownUsername(uuid) != null) {
-                return;
-            }
-
+        checkNotNull(uuid, "uniqueId");
+        // Skip ids that can't be resolved, and ids that are already queued
+        if (isOfflineId(uuid) || this.unknownIds.getIfPresent(uuid) != null || !this.queuedLookups.add(uuid)) {
+            return;
+        }
+        this.gameLookupExecutorService.execute(() -> {
             try {
-                Sponge.getServer().getGameProfileManager().get(checkNotNull(uuid, "uniqueId")).get();
+                if (SpongeUsernameCache.getLastKnownUsername(uuid) != null) {
+                    return;
+                }
+
+                this.lookupLimiter.acquire();
+                this.get(uuid, true).get();
             } catch (InterruptedException e) {
                 e.printStackTrace();
             } catch (ExecutionException e) {
                 e.printStackTrace();
-            }
-
-            try {
-                Thread.sleep(LOOKUP_INTERVAL * 1000);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
+            } finally {
+                this.queuedLookups.remove(uuid);
             }
         });
     }
@@ -94,22 +124,94 @@ public ProfileProperty createProfileProperty(String name, String value, @Nullabl
 
     @Override
     public CompletableFuture<GameProfile> get(UUID uniqueId, final boolean useCache) {
-        return this.submitTask(new UniqueIdQuery.SingleGet(this.cache, checkNotNull(uniqueId, "unique id"), useCache));
+        checkNotNull(uniqueId, "unique id");
+        if (!useCache) {
+            return this.submitTask(new UniqueIdQuery.SingleGet(this.cache, uniqueId, false));
+        }
+        if (isOfflineId(uniqueId) || this.unknownIds.getIfPresent(uniqueId) != null) {
+            return CompletableFuture.completedFuture(this.getLocalProfile(uniqueId));
+        }
+        return this.getOrJoin(this.pendingById, uniqueId, () -> this.submitTask(new UniqueIdQuery.SingleGet(this.cache, uniqueId, true))
+                .thenApply(profile -> {
+                    if (!profile.getName().isPresent()) {
+                        this.unknownIds.put(uniqueId, true);
+                    }
+                    return profile;
+                }));
     }
 
     @Override
     public CompletableFuture<Collection<GameProfile>> getAllById(Iterable<UUID> uniqueIds, boolean useCache) {
-        return this.submitTask(new UniqueIdQuery.MultiGet(this.cache, checkNotNull(uniqueIds, "unique ids"), useCache));
+        checkNotNull(uniqueIds, "unique ids");
+        if (!useCache) {
+            return this.submitTask(new UniqueIdQuery.MultiGet(this.cache, uniqueIds, false));
+        }
+
+        final Set<UUID> remaining = Sets.newHashSet(uniqueIds);
+        final List<GameProfile> local = Lists.newArrayList();
+        for (Iterator<UUID> it = remaining.iterator(); it.hasNext();) {
+            final UUID uniqueId = it.next();
+            if (isOfflineId(uniqueId) || this.unknownIds.getIfPresent(uniqueId) != null) {
+                final GameProfile profile = this.getLocalProfile(uniqueId);
+                if (profile.getName().isPresent()) {
+                    local.add(profile);
+                }
+                it.remove();
+            }
+        }
+        if (remaining.isEmpty()) {
+            return CompletableFuture.completedFuture(local);
+        }
+        return this.submitTask(new UniqueIdQuery.MultiGet(this.cache, remaining, true)).thenApply(profiles -> {
+            for (GameProfile profile : profiles) {
+                remaining.remove(profile.getUniqueId());
+            }
+            for (UUID uniqueId : remaining) {
+                this.unknownIds.put(uniqueId, true);
+            }
+            if (local.isEmpty()) {
+                return profiles;
+            }
+            local.addAll(profiles);
+            return local;
+        });
     }
 
     @Override
     public CompletableFuture<GameProfile> get(String name, boolean useCache) {
-        return this.submitTask(new NameQuery.SingleGet(this.cache, checkNotNull(name, "name"), useCache));
+        checkNotNull(name, "name");
+        if (!useCache) {
+            return this.submitTask(new NameQuery.SingleGet(this.cache, name, false));
+        }
+        final String key = name.toLowerCase(Locale.ROOT);
+        if (this.unknownNames.getIfPresent(key) != null) {
+            final CompletableFuture<GameProfile> future = new CompletableFuture<>();
+            future.completeExceptionally(new ProfileNotFoundException("Profile: " + name));
+            return future;
+        }
+        if (isOfflineMode()) {
+            return CompletableFuture.completedFuture(this.cache.getByName(name).orElseGet(() -> getOfflineProfile(name)));
+        }
+        return this.getOrJoin(this.pendingByName, key, () -> this.submitTask(new NameQuery.SingleGet(this.cache, name, true))
+                .whenComplete((profile, throwable) -> {
+                    // Failing to reach the profile server says nothing about the name
+                    if (unwrap(throwable) instanceof ProfileNotFoundException) {
+                        this.unknownNames.put(key, true);
+                    }
+                }));
     }
 
     @Override
     public CompletableFuture<Collection<GameProfile>> getAllByName(Iterable<String> names, boolean useCache) {
-        return this.submitTask(new NameQuery.MultiGet(this.cache, checkNotNull(names, "names"), useCache));
+        checkNotNull(names, "names");
+        if (useCache && isOfflineMode()) {
+            final Set<GameProfile> profiles = Sets.newHashSet();
+            for (String name : names) {
+                profiles.add(this.cache.getByName(name).orElseGet(() -> getOfflineProfile(name)));
+            }
+            return CompletableFuture.completedFuture(profiles);
+        }
+        return this.submitTask(new NameQuery.MultiGet(this.cache, names, useCache));
     }
 
     @Override
@@ -125,6 +227,8 @@ public GameProfileCache getCache() {
     @Override
     public void setCache(GameProfileCache cache) {
         this.cache = checkNotNull(cache, "cache");
+        this.unknownIds.invalidateAll();
+        this.unknownNames.invalidateAll();
     }
 
     @Override
@@ -136,4 +240,72 @@ private <T> CompletableFuture<T> submitTask(Callable<T> callable) {
         return SpongeScheduler.getInstance().submitAsyncTask(callable);
     }
 
+    /**
+     * Returns the lookup already in progress for the given key, or starts
+     * a new one. Each caller gets its own future, so that completing or
+     * cancelling it doesn't affect the other callers.
+     */
+    private <K> CompletableFuture<GameProfile> getOrJoin(Map<K, CompletableFuture<GameProfile>> pending, K key,
+            Supplier<CompletableFuture<GameProfile>> lookup) {
+        CompletableFuture<GameProfile> future = pending.get(key);
+        if (future == null) {
+            final CompletableFuture<GameProfile> created = new CompletableFuture<>();
+            future = pending.putIfAbsent(key, created);
+            if (future == null) {
+                future = created;
+                final CompletableFuture<GameProfile> started;
+                try {
+                    started = lookup.get();
+                } catch (RuntimeException e) {
+                    pending.remove(key, created);
+                    throw e;
+                }
+                started.whenComplete((profile, throwable) -> {
+                    pending.remove(key, created);
+                    if (throwable != null) {
+                        created.completeExceptionally(throwable);
+                    } else {
+                        created.complete(profile);
+                    }
+                });
+            }
+        }
+        return future.thenApply(Function.identity());
+    }
+
+    @Nullable
+    private static Throwable unwrap(@Nullable Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+
+    private GameProfile getLocalProfile(UUID uniqueId) {
+        @Nullable final String username = SpongeUsernameCache.getLastKnownUsername(uniqueId);
+        if (username != null) {
+            return GameProfile.of(uniqueId, username);
+        }
+        return this.cache.getById(uniqueId).orElseGet(() -> GameProfile.of(uniqueId, null));
+    }
+
+    /**
+     * Gets whether the given id is an offline mode id. These are derived
+     * from the player's name and are unknown to Mojang's session server, so
+     * looking them up would only use up requests.
+     */
+    private static boolean isOfflineId(UUID uniqueId) {
+        return uniqueId.version() == 3;
+    }
+
+    /**
+     * Gets whether names should be resolved to offline mode ids, instead of
+     * being looked up. This isn't the case behind a BungeeCord proxy, which
+     * forwards the ids of the proxy.
+     */
+    private static boolean isOfflineMode() {
+        return !SpongeImpl.getServer().isServerInOnlineMode() && !SpongeImpl.getGlobalConfig().getConfig().getBungeeCord().getIpForwarding();
+    }
+
+    private static GameProfile getOfflineProfile(String name) {
+        return GameProfile.of(EntityPlayer.getOfflineUUID(name), name);
+    }
+
 }
@@ -0,0 +1,74 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.profile;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token bucket limiting how many profile lookups are sent to Mojang's
+ * session server. The bucket holds up to {@code capacity} tokens and is
+ * refilled completely over each {@code interval}.
+ */
+final class TokenBucket {
+
+    private final int capacity;
+    private final long nanosPerToken;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(int capacity, long interval, TimeUnit unit) {
+        this.capacity = capacity;
+        this.nanosPerToken = unit.toNanos(interval) / capacity;
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * Takes a token, waiting until one is available.
+     *
+     * @throws InterruptedException If interrupted while waiting
+     */
+    synchronized void acquire() throws InterruptedException {
+        while (!this.tryAcquire()) {
+            TimeUnit.NANOSECONDS.sleep((long) ((1.0 - this.tokens) * this.nanosPerToken));
+        }
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @return Whether a token was taken
+     */
+    synchronized boolean tryAcquire() {
+        final long now = System.nanoTime();
+        this.tokens = Math.min(this.capacity, this.tokens + (now - this.lastRefill) / (double) this.nanosPerToken);
+        this.lastRefill = now;
+        if (this.tokens >= 1.0) {
+            this.tokens -= 1.0;
+            return true;
+        }
+        return false;
+    }
+}
@@ -29,9 +29,12 @@
 
 import java.util.Optional;
 
+import javax.annotation.Nullable;
+
 public final class SingleProfileLookupCallback implements ProfileLookupCallback {
 
     private Optional<org.spongepowered.api.profile.GameProfile> result;
+    @Nullable private Exception failure;
 
     @Override
     public void onProfileLookupSucceeded(GameProfile profile) {
@@ -41,10 +44,15 @@ public void onProfileLookupSucceeded(GameProfile profile) {
     @Override
     public void onProfileLookupFailed(GameProfile profile, Exception exception) {
         this.result = Optional.empty();
+        this.failure = exception;
     }
 
     public Optional<org.spongepowered.api.profile.GameProfile> getResult() {
         return this.result;
     }
 
+    public Optional<Exception> getFailure() {
+        return Optional.ofNullable(this.failure);
+    }
+
 }
@@ -28,10 +28,12 @@
 import com.google.common.collect.Sets;
 import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.profile.GameProfileCache;
+import org.spongepowered.api.profile.ProfileNotFoundException;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 
 public abstract class NameQuery<T> extends Query<T> {
 
@@ -50,7 +52,11 @@ public SingleGet(GameProfileCache cache, String name, boolean useCache) {
 
         @Override
         public GameProfile call() throws Exception {
-            return this.fromNames(Collections.singleton(this.name)).get(0);
+            final List<GameProfile> profiles = this.fromNames(Collections.singleton(this.name));
+            if (profiles.isEmpty()) {
+                throw new ProfileNotFoundException("Profile: " + this.name);
+            }
+            return profiles.get(0);
         }
     }
 
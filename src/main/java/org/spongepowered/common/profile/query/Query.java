@@ -28,11 +28,13 @@
 import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.profile.GameProfileCache;
 import org.spongepowered.api.profile.ProfileNotFoundException;
+import org.spongepowered.common.interfaces.server.management.IMixinPlayerProfileCache;
 import org.spongepowered.common.util.SpongeUsernameCache;
 
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.Callable;
@@ -96,11 +98,31 @@ protected GameProfile fillProfile(GameProfile profile, boolean signed) throws Pr
         }
     }
 
-    protected List<GameProfile> fromNames(Collection<String> names) throws ProfileNotFoundException {
+    protected List<GameProfile> fromNames(Collection<String> names) throws Exception {
         if (this.useCache) {
-            return this.cache.getOrLookupByNames(names).values().stream().filter(Optional::isPresent).map(Optional::get).collect(Collectors.toList());
+            final List<GameProfile> result = Lists.newArrayListWithCapacity(names.size());
+            for (Map.Entry<String, Optional<GameProfile>> entry : this.cache.getByNames(names).entrySet()) {
+                if (entry.getValue().isPresent()) {
+                    result.add(entry.getValue().get());
+                } else {
+                    this.lookupByName(entry.getKey()).ifPresent(result::add);
+                }
+            }
+            return result;
         }
         return this.cache.lookupByNames(names).values().stream().filter(Optional::isPresent).map(Optional::get).collect(Collectors.toList());
     }
 
+    /**
+     * Looks a profile up by name. Failing to reach the profile server is
+     * reported as an exception where the cache allows telling it apart from
+     * an unknown name.
+     */
+    protected Optional<GameProfile> lookupByName(String name) throws Exception {
+        if (this.cache instanceof IMixinPlayerProfileCache) {
+            return ((IMixinPlayerProfileCache) this.cache).lookupByNameOrThrow(name);
+        }
+        return this.cache.lookupByName(name);
+    }
+
 }
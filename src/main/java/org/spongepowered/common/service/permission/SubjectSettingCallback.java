@@ -31,6 +31,7 @@
 import org.spongepowered.api.service.permission.SubjectCollection;
 import org.spongepowered.common.interfaces.IMixinSubject;
 import org.spongepowered.common.mixin.core.command.MixinSubject;
+import org.spongepowered.common.service.permission.base.SpongeSubject;
 
 import java.lang.ref.WeakReference;
 import java.util.function.Predicate;
@@ -56,6 +57,7 @@ public boolean test(@Nullable PermissionService input) {
             return false;
         }
         if (input == null) {
+            SpongeSubject.invalidatePermissionCaches();
             return true;
         }
         SubjectCollection userSubjects = input.getSubjects(ref.getSubjectCollectionIdentifier());
@@ -69,6 +71,8 @@ public boolean test(@Nullable PermissionService input) {
             }
             ref.setSubject(subject);
         }
+        // Anything resolved against the previous subject is stale
+        SpongeSubject.invalidatePermissionCaches();
         return true;
     }
 
@@ -57,7 +57,11 @@ public boolean setPermission(Set<Context> contexts, String permission, Tristate
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.setPermission(contexts, permission, value);
+        final boolean changed = super.setPermission(contexts, permission, value);
+        // Only invalidate once the change is visible, otherwise a lookup racing
+        // with it could cache the old value under the new generation
+        SpongeSubject.invalidatePermissionCaches();
+        return changed;
     }
 
     @Override
@@ -65,7 +69,9 @@ public boolean clearPermissions(Set<Context> contexts) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.clearPermissions(contexts);
+        final boolean changed = super.clearPermissions(contexts);
+        SpongeSubject.invalidatePermissionCaches();
+        return changed;
     }
 
     @Override
@@ -73,7 +79,9 @@ public boolean addParent(Set<Context> contexts, Subject parent) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.addParent(contexts, parent);
+        final boolean changed = super.addParent(contexts, parent);
+        SpongeSubject.invalidatePermissionCaches();
+        return changed;
     }
 
     @Override
@@ -81,7 +89,9 @@ public boolean removeParent(Set<Context> contexts, Subject parent) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.removeParent(contexts, parent);
+        final boolean changed = super.removeParent(contexts, parent);
+        SpongeSubject.invalidatePermissionCaches();
+        return changed;
     }
 
     @Override
@@ -89,6 +99,22 @@ public boolean clearParents(Set<Context> contexts) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.clearParents(contexts);
+        final boolean changed = super.clearParents(contexts);
+        SpongeSubject.invalidatePermissionCaches();
+        return changed;
+    }
+
+    @Override
+    public boolean clearPermissions() {
+        final boolean changed = super.clearPermissions();
+        SpongeSubject.invalidatePermissionCaches();
+        return changed;
+    }
+
+    @Override
+    public boolean clearParents() {
+        final boolean changed = super.clearParents();
+        SpongeSubject.invalidatePermissionCaches();
+        return changed;
     }
 }
@@ -33,9 +33,47 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 public abstract class SpongeSubject implements Subject {
 
+    /**
+     * Bumped whenever any subject data, parent or op level changes. A
+     * resolved value depends on the parents and the defaults of a subject,
+     * so any change may affect any subject. Changes are rare compared to
+     * lookups, so every cached value is simply tagged with the generation it
+     * was resolved in.
+     */
+    private static final AtomicLong generation = new AtomicLong();
+    private static final LongAdder cacheHits = new LongAdder();
+    private static final LongAdder cacheMisses = new LongAdder();
+    /**
+     * The most permissions cached per subject. Plugins may check permissions
+     * built from arbitrary input, so the cache is simply emptied once it
+     * gets this large.
+     */
+    private static final int MAX_RESOLVED_PERMISSIONS = 1024;
+
+    private final ConcurrentMap<String, ResolvedPermission> resolvedPermissions = new ConcurrentHashMap<>();
+
+    /**
+     * Invalidates the resolved permissions of every subject.
+     */
+    public static void invalidatePermissionCaches() {
+        generation.incrementAndGet();
+    }
+
+    public static long getPermissionCacheHits() {
+        return cacheHits.sum();
+    }
+
+    public static long getPermissionCacheMisses() {
+        return cacheMisses.sum();
+    }
+
     @Override
     public MemorySubjectData getTransientSubjectData() {
         return getSubjectData();
@@ -49,8 +87,35 @@ public boolean hasPermission(Set<Context> contexts, String permission) {
         return getPermissionValue(contexts, permission) == Tristate.TRUE;
     }
 
+    /**
+     * Gets the permission value, resolving it through
+     * {@link #resolvePermissionValue(Set, String)} only if it was not
+     * resolved since the last change to any subject. Subject data is only
+     * ever stored in the global context, so the contexts are not part of
+     * the cache key.
+     */
     @Override
-    public Tristate getPermissionValue(Set<Context> contexts, String permission) {
+    public final Tristate getPermissionValue(Set<Context> contexts, String permission) {
+        if (!(getSubjectData() instanceof GlobalMemorySubjectData)) {
+            // Data that does not report changes can not be cached
+            return resolvePermissionValue(contexts, permission);
+        }
+        final long currentGeneration = generation.get();
+        final ResolvedPermission resolved = this.resolvedPermissions.get(permission);
+        if (resolved != null && resolved.generation == currentGeneration) {
+            cacheHits.increment();
+            return resolved.value;
+        }
+        cacheMisses.increment();
+        final Tristate value = resolvePermissionValue(contexts, permission);
+        if (this.resolvedPermissions.size() >= MAX_RESOLVED_PERMISSIONS) {
+            this.resolvedPermissions.clear();
+        }
+        this.resolvedPermissions.put(permission, new ResolvedPermission(value, currentGeneration));
+        return value;
+    }
+
+    protected Tristate resolvePermissionValue(Set<Context> contexts, String permission) {
         return getDataPermissionValue(getSubjectData(), permission);
     }
 
@@ -103,4 +168,15 @@ public Optional<String> getOption(Set<Context> contexts, String key) {
     public Set<Context> getActiveContexts() {
         return SubjectData.GLOBAL_CONTEXT;
     }
+
+    private static final class ResolvedPermission {
+
+        final Tristate value;
+        final long generation;
+
+        ResolvedPermission(Tristate value, long generation) {
+            this.value = value;
+            this.generation = generation;
+        }
+    }
 }
@@ -27,11 +27,11 @@
 import com.google.common.base.Preconditions;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.mojang.authlib.GameProfile;
 import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.server.management.PlayerList;
-import net.minecraft.server.management.PlayerProfileCache;
 import net.minecraft.server.management.UserListBans;
 import net.minecraft.server.management.UserListEntryBan;
 import net.minecraft.server.management.UserListWhitelist;
@@ -40,6 +40,7 @@
 import net.minecraft.world.storage.SaveHandler;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.api.profile.GameProfileCache;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.entity.player.SpongeUser;
 import org.spongepowered.common.interfaces.entity.player.IMixinEntityPlayerMP;
@@ -49,13 +50,14 @@
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 class UserDiscoverer {
 
@@ -105,13 +107,13 @@ static User findByProfile(org.spongepowered.api.profile.GameProfile profile) {
     }
 
     static User findByUsername(String username) {
-        PlayerProfileCache cache = SpongeImpl.getServer().getPlayerProfileCache();
-        HashSet<String> names = Sets.newHashSet(cache.getUsernames());
-        if (names.contains(username.toLowerCase(Locale.ROOT))) {
-            GameProfile profile = cache.getGameProfileForUsername(username);
-            if (profile != null) {
-                return findByProfile((org.spongepowered.api.profile.GameProfile) profile);
-            }
+        Optional<org.spongepowered.api.profile.GameProfile> profile = UserIndex.getByName(username);
+        if (!profile.isPresent()) {
+            // Doesn't perform a lookup for unknown names
+            profile = ((GameProfileCache) SpongeImpl.getServer().getPlayerProfileCache()).getByName(username);
+        }
+        if (profile.isPresent()) {
+            return findByProfile(profile.get());
         }
         return null;
     }
@@ -124,30 +126,30 @@ static Collection<org.spongepowered.api.profile.GameProfile> getAllProfiles() {
         profiles.addAll(userCache.asMap().values().stream().map(User::getProfile).collect(Collectors.toList()));
 
         // Add all known profiles from the data files
-        SaveHandler saveHandler = (SaveHandler) WorldManager.getWorldByDimensionId(0).get().getSaveHandler();
-        String[] uuids = saveHandler.getAvailablePlayerDat();
-        for (String playerUuid : uuids) {
-
-            // If the filename contains a period, we can fail fast. Vanilla code fixes the Strings that have ".dat" to strip that out
-            // before passing that back in getAvailablePlayerDat. It doesn't remove non ".dat" filenames from the list.
-            if (playerUuid.contains(".")) {
-                continue;
-            }
+        profiles.addAll(UserIndex.getProfiles());
 
-            // At this point, we have a filename who has no extension. This doesn't mean it is actually a UUID. We trap the exception and ignore
-            // any filenames that fail the UUID check.
-            UUID uuid;
-            try {
-                uuid = UUID.fromString(playerUuid);
-            } catch (Exception ex) {
-                continue;
-            }
+        // Add all whitelisted and banned users
+        profiles.addAll(getListedProfiles());
 
-            final GameProfile profile = SpongeImpl.getServer().getPlayerProfileCache().getProfileByUUID(uuid);
-            if (profile != null) {
-                profiles.add((org.spongepowered.api.profile.GameProfile) profile);
-            }
-        }
+        return profiles;
+    }
+
+    static Collection<org.spongepowered.api.profile.GameProfile> match(String lastKnownName) {
+        Preconditions.checkState(Sponge.isServerAvailable(), "Server is not available!");
+        final String prefix = lastKnownName.toLowerCase(Locale.ROOT);
+        Set<org.spongepowered.api.profile.GameProfile> profiles = Sets.newHashSet(UserIndex.match(prefix));
+
+        // The cached and listed users are held in memory and are usually few,
+        // so they are simply filtered
+        Stream.concat(userCache.asMap().values().stream().map(User::getProfile), getListedProfiles().stream())
+                .filter(profile -> profile.getName().isPresent() && profile.getName().get().toLowerCase(Locale.ROOT).startsWith(prefix))
+                .forEach(profiles::add);
+
+        return profiles;
+    }
+
+    private static Collection<org.spongepowered.api.profile.GameProfile> getListedProfiles() {
+        final List<org.spongepowered.api.profile.GameProfile> profiles = Lists.newArrayList();
 
         // Add all whitelisted users
         final UserListWhitelist whiteList = SpongeImpl.getServer().getPlayerList().getWhitelistedPlayers();
@@ -256,7 +258,11 @@ private static boolean deleteStoredPlayerData(UUID uniqueId) {
         File dataFile = getPlayerDataFile(uniqueId);
         if (dataFile != null) {
             try {
-                return dataFile.delete();
+                if (dataFile.delete()) {
+                    UserIndex.remove(uniqueId);
+                    return true;
+                }
+                return false;
             } catch (SecurityException e) {
                 SpongeImpl.getLogger().warn("Unable to delete file {} due to a security error", dataFile, e);
                 return false;
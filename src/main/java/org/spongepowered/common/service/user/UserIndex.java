@@ -0,0 +1,193 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.user;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import net.minecraft.server.management.PlayerProfileCache;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.storage.SaveHandler;
+import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.world.WorldManager;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import javax.annotation.Nullable;
+
+/**
+ * An index of all users that have a player data file in the overworld's
+ * player directory.
+ *
+ * <p>The index is built from a single listing of the player directory the
+ * first time it is needed, and is kept up to date as players log in, as
+ * user data is saved and as users are deleted. Users are indexed by unique
+ * id and by lower case name, which allows looking up and matching offline
+ * names without scanning the directory or the profile cache.</p>
+ */
+public final class UserIndex {
+
+    private static final Map<UUID, GameProfile> profilesById = Maps.newHashMap();
+    private static final NavigableMap<String, GameProfile> profilesByName = new TreeMap<>();
+    // Users with a data file, but no known name yet
+    private static final Set<UUID> unnamed = Sets.newHashSet();
+    @Nullable private static File indexedDirectory;
+
+    /**
+     * Records that the given user has a player data file, updating the name
+     * it is indexed by.
+     *
+     * @param profile The profile of the user
+     */
+    public static synchronized void put(com.mojang.authlib.GameProfile profile) {
+        if (!ensureIndexed() || profile.getId() == null) {
+            return;
+        }
+        if (profile.getName() == null) {
+            if (!profilesById.containsKey(profile.getId())) {
+                unnamed.add(profile.getId());
+            }
+            return;
+        }
+        index((GameProfile) profile);
+    }
+
+    /**
+     * Removes the user with the given unique id from the index, usually
+     * because its player data file was deleted.
+     *
+     * @param uniqueId The unique id of the user
+     */
+    public static synchronized void remove(UUID uniqueId) {
+        unnamed.remove(uniqueId);
+        final GameProfile profile = profilesById.remove(uniqueId);
+        if (profile != null) {
+            profilesByName.remove(profile.getName().get().toLowerCase(Locale.ROOT), profile);
+        }
+    }
+
+    static synchronized Optional<GameProfile> getByName(String name) {
+        if (!ensureIndexed()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(profilesByName.get(name.toLowerCase(Locale.ROOT)));
+    }
+
+    static synchronized Collection<GameProfile> getProfiles() {
+        if (!ensureIndexed()) {
+            return ImmutableList.of();
+        }
+        resolveUnnamed();
+        return ImmutableList.copyOf(profilesById.values());
+    }
+
+    static synchronized Collection<GameProfile> match(String prefix) {
+        if (!ensureIndexed()) {
+            return ImmutableList.of();
+        }
+        resolveUnnamed();
+        final String lowerPrefix = prefix.toLowerCase(Locale.ROOT);
+        return ImmutableList.copyOf(profilesByName.subMap(lowerPrefix, true, lowerPrefix + Character.MAX_VALUE, true).values());
+    }
+
+    private static void index(GameProfile profile) {
+        final UUID uniqueId = profile.getUniqueId();
+        unnamed.remove(uniqueId);
+        final GameProfile previous = profilesById.put(uniqueId, profile);
+        if (previous != null) {
+            profilesByName.remove(previous.getName().get().toLowerCase(Locale.ROOT), previous);
+        }
+        profilesByName.put(profile.getName().get().toLowerCase(Locale.ROOT), profile);
+    }
+
+    private static void resolveUnnamed() {
+        if (unnamed.isEmpty()) {
+            return;
+        }
+        final PlayerProfileCache cache = SpongeImpl.getServer().getPlayerProfileCache();
+        for (Iterator<UUID> it = unnamed.iterator(); it.hasNext();) {
+            final com.mojang.authlib.GameProfile profile = cache.getProfileByUUID(it.next());
+            if (profile != null) {
+                it.remove();
+                index((GameProfile) profile);
+            }
+        }
+    }
+
+    /**
+     * Builds the index from the overworld's player directory if it was not
+     * built yet, or if it was built for another save.
+     *
+     * @return Whether the player directory is available
+     */
+    private static boolean ensureIndexed() {
+        // This may be called during initial world gen, before the overworld
+        // is registered.
+        final Optional<WorldServer> worldServer = WorldManager.getWorldByDimensionId(0);
+        if (!worldServer.isPresent()) {
+            return false;
+        }
+        final SaveHandler saveHandler = (SaveHandler) worldServer.get().getSaveHandler();
+        if (saveHandler.playersDirectory.equals(indexedDirectory)) {
+            return true;
+        }
+
+        profilesById.clear();
+        profilesByName.clear();
+        unnamed.clear();
+        indexedDirectory = saveHandler.playersDirectory;
+
+        for (String playerUuid : saveHandler.getAvailablePlayerDat()) {
+            // If the filename contains a period, we can fail fast. Vanilla code fixes the Strings that have ".dat" to strip that out
+            // before passing that back in getAvailablePlayerDat. It doesn't remove non ".dat" filenames from the list.
+            if (playerUuid.contains(".")) {
+                continue;
+            }
+
+            // At this point, we have a filename who has no extension. This doesn't mean it is actually a UUID. We trap the exception and ignore
+            // any filenames that fail the UUID check.
+            try {
+                unnamed.add(UUID.fromString(playerUuid));
+            } catch (Exception ex) {
+                // Not a player data file
+            }
+        }
+        resolveUnnamed();
+        return true;
+    }
+
+    private UserIndex() {
+    }
+}
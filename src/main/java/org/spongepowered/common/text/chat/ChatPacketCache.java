@@ -0,0 +1,133 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.text.chat;
+
+import com.google.common.collect.MapMaker;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.network.NetHandlerPlayServer;
+import net.minecraft.network.play.server.SPacketChat;
+import net.minecraft.util.text.ITextComponent;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.chat.ChatTypes;
+import org.spongepowered.common.interfaces.IMixinNetworkManager;
+import org.spongepowered.common.network.EncodedPackets;
+import org.spongepowered.common.text.SpongeTexts;
+
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * Caches the wire form of {@link SPacketChat}s built from {@link Text}
+ * messages, so that a message sent to every member of a channel is only
+ * converted and serialized once instead of once per receiver.
+ *
+ * <p>Entries are keyed by the identity of the (immutable) {@link Text} and
+ * are dropped once the message is no longer referenced. The conversion does
+ * not depend on the locale of the receiver, translations are resolved by the
+ * client, so the chat type is the only other part of the key.</p>
+ */
+public final class ChatPacketCache {
+
+    private static final int CHAT_TYPES = 3;
+    private static final Map<Text, ByteBuf[]> encodedPackets = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * Sends the given message to a player connection, sharing the encoded
+     * packet with other receivers where possible.
+     *
+     * <p>Only players that see all chat get the shared packet, everyone else
+     * goes through {@link NetHandlerPlayServer#sendPacket} so that the chat
+     * visibility filtering and packet hooks apply to them as before.</p>
+     *
+     * @param connection The connection of the receiving player
+     * @param visibility The chat visibility of the receiving player
+     * @param message The message
+     * @param type The chat type
+     */
+    public static void sendMessage(NetHandlerPlayServer connection, EntityPlayer.EnumChatVisibility visibility, Text message,
+            SpongeChatType type) {
+        if (visibility == EntityPlayer.EnumChatVisibility.FULL) {
+            final ByteBuf encoded = getEncodedPacket(message, type);
+            if (encoded != null && ((IMixinNetworkManager) connection.netManager).sendEncodedPacket(encoded, true)) {
+                return;
+            }
+        }
+        connection.sendPacket(createPacket(message, type));
+    }
+
+    /**
+     * Creates a chat packet for the given message.
+     *
+     * @param message The message
+     * @param type The chat type
+     * @return The packet
+     */
+    public static SPacketChat createPacket(Text message, SpongeChatType type) {
+        ITextComponent component = SpongeTexts.toComponent(message);
+        if (type == ChatTypes.ACTION_BAR) {
+            component = SpongeTexts.fixActionBarFormatting(component);
+        }
+        return new SPacketChat(component, type.getByteId());
+    }
+
+    /**
+     * Gets the encoded play state chat packet for the given message,
+     * including the packet id but without framing or compression. The
+     * returned buffer is shared and must not be modified or released,
+     * write a {@link ByteBuf#duplicate() duplicate} of it instead.
+     *
+     * @param message The message
+     * @param type The chat type
+     * @return The encoded packet, or null if it couldn't be encoded
+     */
+    @Nullable
+    public static ByteBuf getEncodedPacket(Text message, SpongeChatType type) {
+        final int index = type.getByteId();
+        if (index < 0 || index >= CHAT_TYPES) {
+            return null;
+        }
+        ByteBuf[] packets = encodedPackets.get(message);
+        if (packets == null) {
+            packets = new ByteBuf[CHAT_TYPES];
+            final ByteBuf[] existing = encodedPackets.putIfAbsent(message, packets);
+            if (existing != null) {
+                packets = existing;
+            }
+        }
+        ByteBuf encoded = packets[index];
+        if (encoded == null) {
+            encoded = EncodedPackets.encode(createPacket(message, type));
+            // Racing threads produce identical bytes, so the last write may win
+            packets[index] = encoded;
+        }
+        return encoded;
+    }
+
+    private ChatPacketCache() {
+    }
+
+}
@@ -28,9 +28,14 @@
 import static org.spongepowered.common.util.OptionalUtils.asSet;
 
 import com.flowpowered.math.vector.Vector3d;
+import com.google.common.base.Predicates;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import net.minecraft.util.ClassInheritanceMultiMap;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.data.manipulator.mutable.DisplayNameData;
 import org.spongepowered.api.data.manipulator.mutable.entity.ExperienceHolderData;
@@ -59,17 +64,23 @@
 import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.extent.Extent;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.entity.SpongeEntityType;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 /**
  * A resolver that acts like Vanilla Minecraft in many regards.
  */
@@ -81,6 +92,8 @@ public class SelectorResolver {
     private static final Set<ArgumentType<?>> LOCATION_BASED_ARGUMENTS;
     private static final Function<Number, Double> TO_DOUBLE = Number::doubleValue;
     private static final Collection<SelectorType> INFINITE_TYPES = ImmutableSet.of(SelectorTypes.ALL_ENTITIES, SelectorTypes.ALL_PLAYERS);
+    // Extra blocks around the candidate search box, see makeSearchBox
+    private static final double SEARCH_BOX_MARGIN = 1.0D;
 
     static {
         ImmutableSet.Builder<ArgumentType<?>> builder = ImmutableSet.builder();
@@ -116,6 +129,11 @@ private static <I, R> Predicate<I> requireTypePredicate(Class<I> inputType, fina
     private final Selector selector;
     private final Predicate<Entity> selectorFilter;
     private final boolean alwaysUsePosition;
+    // Query plan, used to only look at entities which may pass the filter
+    private final Vector3d origin;
+    private final boolean playerOnly;
+    @Nullable private final AxisAlignedBB searchBox;
+    private final Class<? extends net.minecraft.entity.Entity> candidateClass;
 
     public SelectorResolver(Collection<? extends Extent> extents, Selector selector, boolean force) {
         this(extents, null, null, selector, force);
@@ -137,6 +155,78 @@ private SelectorResolver(Collection<? extends Extent> extents, Vector3d position
         this.selector = checkNotNull(selector);
         this.selectorFilter = makeFilter();
         this.alwaysUsePosition = force;
+        this.origin = getPositionOrDefault(this.position, ArgumentTypes.POSITION);
+        this.playerOnly = isPlayerOnlySelector() || isExactType(EntityTypes.PLAYER);
+        this.searchBox = makeSearchBox(this.origin);
+        this.candidateClass = makeCandidateClass();
+    }
+
+    private boolean isPlayerOnlySelector() {
+        SelectorType selectorType = this.selector.getType();
+        Optional<Invertible<EntityType>> type = this.selector.getArgument(ArgumentTypes.ENTITY_TYPE);
+        // isn't an ALL_ENTITIES selector or it is a RANDOM selector for only players
+        return selectorType == SelectorTypes.ALL_PLAYERS || selectorType == SelectorTypes.NEAREST_PLAYER
+            || (selectorType == SelectorTypes.RANDOM && type.isPresent() && !type.get().isInverted()
+            && type.get().getValue() != EntityTypes.PLAYER);
+    }
+
+    private boolean isExactType(EntityType entityType) {
+        Optional<Invertible<EntityType>> type = this.selector.getArgument(ArgumentTypes.ENTITY_TYPE);
+        return type.isPresent() && !type.get().isInverted() && type.get().getValue() == entityType;
+    }
+
+    @Nullable
+    private AxisAlignedBB makeSearchBox(Vector3d position) {
+        double minX = Double.NEGATIVE_INFINITY;
+        double minY = Double.NEGATIVE_INFINITY;
+        double minZ = Double.NEGATIVE_INFINITY;
+        double maxX = Double.POSITIVE_INFINITY;
+        double maxY = Double.POSITIVE_INFINITY;
+        double maxZ = Double.POSITIVE_INFINITY;
+        Optional<Integer> radiusMax = this.selector.get(ArgumentTypes.RADIUS.maximum());
+        if (radiusMax.isPresent()) {
+            int radMax = radiusMax.get();
+            minX = position.getX() - radMax;
+            minY = position.getY() - radMax;
+            minZ = position.getZ() - radMax;
+            maxX = position.getX() + radMax;
+            maxY = position.getY() + radMax;
+            maxZ = position.getZ() + radMax;
+        }
+        Vector3d boxDimensions = getPositionOrDefault(ORIGIN, ArgumentTypes.DIMENSION);
+        Vector3d boxMin = position.min(position.add(boxDimensions));
+        Vector3d boxMax = position.max(position.add(boxDimensions));
+        if (this.selector.has(ArgumentTypes.DIMENSION.x())) {
+            minX = Math.max(minX, boxMin.getX());
+            maxX = Math.min(maxX, boxMax.getX());
+        }
+        if (this.selector.has(ArgumentTypes.DIMENSION.y())) {
+            minY = Math.max(minY, boxMin.getY());
+            maxY = Math.min(maxY, boxMax.getY());
+        }
+        if (this.selector.has(ArgumentTypes.DIMENSION.z())) {
+            minZ = Math.max(minZ, boxMin.getZ());
+            maxZ = Math.min(maxZ, boxMax.getZ());
+        }
+        // Only worth it if the box is bounded horizontally, otherwise every chunk of the world would be checked
+        if (Double.isInfinite(minX) || Double.isInfinite(maxX) || Double.isInfinite(minZ) || Double.isInfinite(maxZ)) {
+            return null;
+        }
+        // The candidate query only finds entities whose bounding boxes strictly intersect the box, while the
+        // position filter includes the bounds, so grow the box to not lose entities standing right on them
+        return new AxisAlignedBB(minX, Math.max(minY, -Short.MAX_VALUE), minZ, maxX, Math.min(maxY, Short.MAX_VALUE), maxZ)
+                .expandXyz(SEARCH_BOX_MARGIN);
+    }
+
+    private Class<? extends net.minecraft.entity.Entity> makeCandidateClass() {
+        Optional<Invertible<EntityType>> type = this.selector.getArgument(ArgumentTypes.ENTITY_TYPE);
+        if (type.isPresent() && !type.get().isInverted() && type.get().getValue() instanceof SpongeEntityType) {
+            Class<? extends net.minecraft.entity.Entity> entityClass = ((SpongeEntityType) type.get().getValue()).entityClass;
+            if (entityClass != null) {
+                return entityClass;
+            }
+        }
+        return net.minecraft.entity.Entity.class;
     }
 
     private Predicate<Entity> makeFilter() {
@@ -153,14 +243,7 @@ private Predicate<Entity> makeFilter() {
         addRotationFilters(filters);
         addTeamFilters(filters);
         addScoreFilters(filters);
-        SelectorType selectorType = sel.getType();
-        Optional<Invertible<EntityType>> type = sel.getArgument(ArgumentTypes.ENTITY_TYPE);
-        // isn't an ALL_ENTITIES selector or it is a RANDOM selector for only players
-        boolean isPlayerOnlySelector =
-            selectorType == SelectorTypes.ALL_PLAYERS || selectorType == SelectorTypes.NEAREST_PLAYER
-                || (selectorType == SelectorTypes.RANDOM && type.isPresent() && !type.get().isInverted()
-                && type.get().getValue() != EntityTypes.PLAYER);
-        if (isPlayerOnlySelector) {
+        if (isPlayerOnlySelector()) {
             // insert at the start so it applies first
             filters.add(0, requireTypePredicate(Entity.class, Player.class));
         }
@@ -347,28 +430,82 @@ public Set<Entity> resolve() {
         }
         int maxToSelect = this.selector.get(ArgumentTypes.COUNT).orElse(defaultCount);
         Set<? extends Extent> extents = getExtentSet();
-        int count = 0;
-        ImmutableSet.Builder<Entity> entities = ImmutableSet.builder();
-        for (Extent extent : extents) {
-            Collection<Entity> allEntities = extent.getEntities();
-            if (selectorType == SelectorTypes.RANDOM) {
-                List<Entity> entityList = new ArrayList<>(allEntities);
-                Collections.shuffle(entityList);
-                allEntities = entityList;
+        if (maxToSelect == 0 || selectorType == SelectorTypes.RANDOM) {
+            List<Entity> entities = new ArrayList<>();
+            for (Extent extent : extents) {
+                for (Entity e : getCandidates(extent)) {
+                    if (this.selectorFilter.test(e)) {
+                        entities.add(e);
+                    }
+                }
+            }
+            if (maxToSelect == 0) {
+                return ImmutableSet.copyOf(entities);
             }
+            Collections.shuffle(entities);
+            return ImmutableSet.copyOf(entities.subList(0, Math.min(Math.abs(maxToSelect), entities.size())));
+        }
 
-            for (Entity e : allEntities) {
+        // Like Vanilla, select the nearest entities, or the farthest ones for a negative count.
+        // The queue is bounded to the count and keeps the worst of the selected entities at its head.
+        final int limit = Math.abs(maxToSelect);
+        Comparator<Entity> order = Comparator.comparingDouble(this::distanceSquared);
+        if (maxToSelect < 0) {
+            order = order.reversed();
+        }
+        final PriorityQueue<Entity> selected = new PriorityQueue<>(limit, order.reversed());
+        for (Extent extent : extents) {
+            for (Entity e : getCandidates(extent)) {
+                if (selected.size() == limit && order.compare(e, selected.peek()) >= 0) {
+                    continue;
+                }
                 if (!this.selectorFilter.test(e)) {
                     continue;
                 }
-                entities.add(e);
-                count++;
-                if (maxToSelect != 0 && count > maxToSelect) {
-                    break;
+                if (selected.size() == limit) {
+                    selected.poll();
+                }
+                selected.add(e);
+            }
+        }
+        List<Entity> entities = new ArrayList<>(selected);
+        entities.sort(order);
+        return ImmutableSet.copyOf(entities);
+    }
+
+    private double distanceSquared(Entity entity) {
+        return EntityUtil.toNative(entity).getDistanceSq(this.origin.getX(), this.origin.getY(), this.origin.getZ());
+    }
+
+    /**
+     * Gets the entities of the extent which may pass the selector filter,
+     * using the player list, the chunks intersecting the selected area and
+     * the entity class buckets of those chunks where possible.
+     */
+    @SuppressWarnings("unchecked")
+    private Collection<Entity> getCandidates(Extent extent) {
+        if (this.playerOnly && extent instanceof World) {
+            return (Collection<Entity>) (Collection<?>) ((World) extent).getPlayers();
+        }
+        if (!(extent instanceof WorldServer)) {
+            return extent.getEntities();
+        }
+        final WorldServer world = (WorldServer) extent;
+        if (this.searchBox != null) {
+            return (Collection<Entity>) (Collection<?>) world.getEntitiesWithinAABB(this.candidateClass, this.searchBox, Predicates.alwaysTrue());
+        }
+        if (this.candidateClass == net.minecraft.entity.Entity.class) {
+            return extent.getEntities();
+        }
+        final List<Entity> entities = new ArrayList<>();
+        for (Chunk chunk : world.getChunkProvider().getLoadedChunks()) {
+            for (ClassInheritanceMultiMap<net.minecraft.entity.Entity> entityList : chunk.getEntityLists()) {
+                for (net.minecraft.entity.Entity entity : entityList.getByClass(this.candidateClass)) {
+                    entities.add((Entity) entity);
                 }
             }
         }
-        return entities.build();
+        return entities;
     }
 
     private Set<? extends Extent> getExtentSet() {
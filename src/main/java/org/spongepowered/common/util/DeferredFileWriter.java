@@ -0,0 +1,106 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.common.SpongeImpl;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+/**
+ * Writes text files, such as the username and profile caches, from a
+ * background thread after a short delay.
+ *
+ * <p>Saving a file that is already waiting to be written only replaces its
+ * pending contents, so a burst of saves results in a single write. Files
+ * are written to a temporary file first and then moved into place.</p>
+ */
+public final class DeferredFileWriter {
+
+    private static final Map<Path, Supplier<String>> pendingWrites = new ConcurrentHashMap<>();
+    private static final ScheduledExecutorService writerService = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("Sponge - Deferred File Writer")
+            .setDaemon(true)
+            .build());
+
+    /**
+     * Schedules the given contents to be written to the file once the
+     * configured delay has passed. The supplier is called from the writer
+     * thread, and must therefore only depend on a snapshot taken by the
+     * caller.
+     *
+     * @param file The target file
+     * @param contents The supplier of the contents to write
+     */
+    public static void schedule(Path file, Supplier<String> contents) {
+        if (pendingWrites.put(file, contents) == null) {
+            final int delay = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getCacheSaveDelay();
+            writerService.schedule(() -> write(file), Math.max(delay, 0), TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Writes all pending files on the calling thread.
+     */
+    public static void flush() {
+        for (Path file : pendingWrites.keySet()) {
+            write(file);
+        }
+    }
+
+    private static synchronized void write(Path file) {
+        @Nullable final Supplier<String> contents = pendingWrites.remove(file);
+        if (contents == null) {
+            return;
+        }
+        final Path tmpFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.write(tmpFile, contents.get().getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(tmpFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Failed to save file [{}]!", file, e);
+        }
+    }
+
+    private DeferredFileWriter() {
+    }
+}
@@ -39,11 +39,9 @@
 import org.spongepowered.common.SpongeImpl;
 import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Maps;
 import com.google.common.io.Files;
 import com.google.common.reflect.TypeToken;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
 
 /**
@@ -68,7 +66,7 @@ public final class SpongeUsernameCache {
     private static final Charset charset = Charsets.UTF_8;
 
     private static final File saveFile = new File(".", "usernamecache.json");
-    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private static final Gson gson = new Gson();
 
     private static boolean loaded = false;
 
@@ -165,18 +163,17 @@ public static Map<UUID, String> getMap() {
 
     /**
      * Save the cache to file
+     * <p>
+     * The file is written off-thread by the {@link DeferredFileWriter}, from
+     * a snapshot of the cache taken when this is called.
      */
     public static void save() {
         if (!loaded) {
             load();
         }
 
-        try {
-            // Make sure we don't save when another thread is still saving
-            Files.write(gson.toJson(map), saveFile, charset);
-        } catch (IOException e) {
-            SpongeImpl.getLogger().error("Failed to save username cache to file!", e);
-        }
+        final Map<UUID, String> snapshot = ImmutableMap.copyOf(map);
+        DeferredFileWriter.schedule(saveFile.toPath(), () -> gson.toJson(snapshot));
     }
 
     /**
@@ -191,7 +188,10 @@ public static void load() {
             String json = Files.toString(saveFile, charset);
             Type type = new TypeToken<Map<UUID, String>>() { private static final long serialVersionUID = 1L; }.getType();
 
-            map = gson.fromJson(json, type);
+            Map<UUID, String> loadedMap = gson.fromJson(json, type);
+            if (loadedMap != null) {
+                map = new ConcurrentHashMap<>(loadedMap);
+            }
         } catch (JsonSyntaxException e) {
             SpongeImpl.getLogger().error("Could not parse username cache file as valid json, deleting file", e);
             saveFile.delete();
@@ -201,7 +201,7 @@ public static void load() {
         } finally {
             // Can sometimes occur when the json file is malformed
             if (map == null) {
-                map = Maps.newHashMap();
+                map = new ConcurrentHashMap<>();
             }
         }
     }
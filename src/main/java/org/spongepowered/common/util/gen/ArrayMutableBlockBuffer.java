@@ -192,7 +192,7 @@ public Object getBacking() {
 
         @Override
         public int get(int index) {
-            return this.data[index];
+            return this.data[index] & 0xFF;
         }
 
         @Override
@@ -0,0 +1,218 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.EntityTNTPrimed;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.WorldServer;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * Shares the results of explosion calculations between the explosions of a
+ * world within a single tick.
+ *
+ * <p>Block states read by explosion rays, the blocks affected by an
+ * explosion and the exposure of entity bounding boxes are kept until the
+ * tick ends. Any block change in the world discards the cached blocks and
+ * exposures, as they may depend on the changed block.</p>
+ */
+public final class ExplosionCache {
+
+    private final WorldServer world;
+    private final Long2ObjectMap<IBlockState> blockStates = new Long2ObjectOpenHashMap<>();
+    private final Map<ExplosionKey, List<BlockPos>> affectedBlocks = new HashMap<>();
+    private final Map<ExposureKey, Float> exposures = new HashMap<>();
+    private long worldTime = Long.MIN_VALUE;
+
+    public ExplosionCache(WorldServer world) {
+        this.world = world;
+    }
+
+    private void validate() {
+        final long worldTime = this.world.getTotalWorldTime();
+        if (this.worldTime != worldTime) {
+            this.worldTime = worldTime;
+            this.blockStates.clear();
+            this.affectedBlocks.clear();
+            this.exposures.clear();
+        }
+    }
+
+    public IBlockState getBlockState(BlockPos pos) {
+        this.validate();
+        final long key = pos.toLong();
+        IBlockState state = this.blockStates.get(key);
+        if (state == null) {
+            state = this.world.getBlockState(pos);
+            this.blockStates.put(key, state);
+        }
+        return state;
+    }
+
+    /**
+     * Adds the blocks affected by an identical explosion earlier in this
+     * tick to the given collection.
+     *
+     * <p>Only explosions without an exploder or caused by primed TNT are
+     * shared, as other exploders may change the explosion resistance of
+     * blocks.</p>
+     *
+     * @return Whether an identical explosion was found
+     */
+    public boolean addAffectedBlocks(double x, double y, double z, float size, @Nullable Entity exploder, Collection<BlockPos> blocks) {
+        if (!canShare(exploder)) {
+            return false;
+        }
+        this.validate();
+        final List<BlockPos> affected = this.affectedBlocks.get(new ExplosionKey(x, y, z, size, exploder));
+        if (affected == null) {
+            return false;
+        }
+        blocks.addAll(affected);
+        return true;
+    }
+
+    public void putAffectedBlocks(double x, double y, double z, float size, @Nullable Entity exploder, Collection<BlockPos> blocks) {
+        if (canShare(exploder)) {
+            this.validate();
+            this.affectedBlocks.put(new ExplosionKey(x, y, z, size, exploder), ImmutableList.copyOf(blocks));
+        }
+    }
+
+    private static boolean canShare(@Nullable Entity exploder) {
+        return exploder == null || exploder.getClass() == EntityTNTPrimed.class;
+    }
+
+    public float getBlockDensity(Vec3d origin, AxisAlignedBB box) {
+        this.validate();
+        final ExposureKey key = new ExposureKey(origin, box);
+        Float exposure = this.exposures.get(key);
+        if (exposure == null) {
+            exposure = this.world.getBlockDensity(origin, box);
+            this.exposures.put(key, exposure);
+        }
+        return exposure;
+    }
+
+    public void onBlockChange(BlockPos pos) {
+        if (!this.blockStates.isEmpty()) {
+            this.blockStates.remove(pos.toLong());
+        }
+        if (!this.affectedBlocks.isEmpty()) {
+            this.affectedBlocks.clear();
+        }
+        if (!this.exposures.isEmpty()) {
+            this.exposures.clear();
+        }
+    }
+
+    private static final class ExplosionKey {
+
+        private final double x;
+        private final double y;
+        private final double z;
+        private final float size;
+        @Nullable private final Class<?> exploderType;
+
+        ExplosionKey(double x, double y, double z, float size, @Nullable Entity exploder) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.size = size;
+            this.exploderType = exploder == null ? null : exploder.getClass();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ExplosionKey)) {
+                return false;
+            }
+            final ExplosionKey other = (ExplosionKey) o;
+            return Double.compare(this.x, other.x) == 0 && Double.compare(this.y, other.y) == 0 && Double.compare(this.z, other.z) == 0
+                    && Float.compare(this.size, other.size) == 0 && this.exploderType == other.exploderType;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Double.hashCode(this.x);
+            result = 31 * result + Double.hashCode(this.y);
+            result = 31 * result + Double.hashCode(this.z);
+            result = 31 * result + Float.hashCode(this.size);
+            return 31 * result + (this.exploderType == null ? 0 : this.exploderType.hashCode());
+        }
+    }
+
+    private static final class ExposureKey {
+
+        private final double x;
+        private final double y;
+        private final double z;
+        private final AxisAlignedBB box;
+
+        ExposureKey(Vec3d origin, AxisAlignedBB box) {
+            this.x = origin.xCoord;
+            this.y = origin.yCoord;
+            this.z = origin.zCoord;
+            this.box = box;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ExposureKey)) {
+                return false;
+            }
+            final ExposureKey other = (ExposureKey) o;
+            return Double.compare(this.x, other.x) == 0 && Double.compare(this.y, other.y) == 0 && Double.compare(this.z, other.z) == 0
+                    && this.box.equals(other.box);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Double.hashCode(this.x);
+            result = 31 * result + Double.hashCode(this.y);
+            result = 31 * result + Double.hashCode(this.z);
+            return 31 * result + this.box.hashCode();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.storage.IChunkLoader;
+import org.spongepowered.api.world.World;
+import org.spongepowered.api.world.storage.WorldProperties;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the stored spawn chunks of several worlds on background threads
+ * while the server starts.
+ *
+ * <p>The main thread still prepares the spawn area of each world one after
+ * another, but it only has to turn the prefetched data into chunks and
+ * generate the chunks that are missing, instead of waiting on the disk for
+ * every one of them.</p>
+ *
+ * <p>Only a few worlds are read ahead of the one being prepared, each of
+ * them holding up to 625 chunks in memory. The data of a world is dropped
+ * as soon as its spawn area has been prepared.</p>
+ */
+public final class SpawnAreaPrefetcher {
+
+    // How many worlds may be read ahead of the one being prepared
+    private static final int MAX_WORLDS_AHEAD = 2;
+
+    private final ExecutorService executor;
+    private final Map<WorldServer, Runnable> queued = new LinkedHashMap<>();
+    private final Map<WorldServer, Future<?>> tasks = new IdentityHashMap<>();
+    private final Map<WorldServer, IMixinAnvilChunkLoader> loaders = new IdentityHashMap<>();
+
+    private SpawnAreaPrefetcher(int threads) {
+        this.executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                .setNameFormat("Sponge - Spawn Prefetch #%d")
+                .setDaemon(true)
+                .build());
+    }
+
+    /**
+     * Starts reading the spawn chunks of all given worlds which generate
+     * their spawn on load. Must be called from the main thread.
+     *
+     * @param worlds The worlds to read the spawn chunks of
+     * @return The prefetcher
+     */
+    public static SpawnAreaPrefetcher start(WorldServer[] worlds) {
+        final SpawnAreaPrefetcher prefetcher = new SpawnAreaPrefetcher(Math.max(1, Math.min(MAX_WORLDS_AHEAD,
+                Runtime.getRuntime().availableProcessors())));
+        for (WorldServer worldServer : worlds) {
+            if (worldServer == null || !((WorldProperties) worldServer.getWorldInfo()).doesGenerateSpawnOnLoad()) {
+                continue;
+            }
+            final IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) worldServer.getChunkProvider();
+            final IChunkLoader chunkLoader = chunkProvider.getChunkLoader();
+            if (!(chunkLoader instanceof IMixinAnvilChunkLoader)) {
+                continue;
+            }
+            // Same square as MinecraftServer#prepareSpawnArea, minus the chunks which are already loaded
+            final BlockPos spawn = worldServer.getSpawnPoint();
+            final List<ChunkPos> chunks = new ArrayList<>(625);
+            for (int k = -192; k <= 192; k += 16) {
+                for (int l = -192; l <= 192; l += 16) {
+                    final int x = spawn.getX() + k >> 4;
+                    final int z = spawn.getZ() + l >> 4;
+                    if (chunkProvider.getLoadedChunkWithoutMarkingActive(x, z) == null) {
+                        chunks.add(new ChunkPos(x, z));
+                    }
+                }
+            }
+            final IMixinAnvilChunkLoader loader = (IMixinAnvilChunkLoader) chunkLoader;
+            prefetcher.loaders.put(worldServer, loader);
+            prefetcher.queued.put(worldServer, () -> prefetch(worldServer, loader, chunks));
+        }
+        for (int i = 0; i < MAX_WORLDS_AHEAD; i++) {
+            prefetcher.submitNext();
+        }
+        return prefetcher;
+    }
+
+    private void submitNext() {
+        final Iterator<Map.Entry<WorldServer, Runnable>> it = this.queued.entrySet().iterator();
+        if (it.hasNext()) {
+            final Map.Entry<WorldServer, Runnable> next = it.next();
+            it.remove();
+            this.tasks.put(next.getKey(), this.executor.submit(next.getValue()));
+        }
+    }
+
+    private static void prefetch(WorldServer worldServer, IMixinAnvilChunkLoader loader, List<ChunkPos> chunks) {
+        final long start = System.nanoTime();
+        int stored = 0;
+        for (ChunkPos chunk : chunks) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            try {
+                if (loader.prefetchChunk(chunk.chunkXPos, chunk.chunkZPos)) {
+                    stored++;
+                }
+            } catch (IOException e) {
+                // The main thread will run into the same problem and report it while loading the chunk
+            }
+        }
+        SpongeImpl.getLogger().info("Read {} stored spawn chunks for level {} ({}) in {} ms, {} chunks left to generate",
+                stored, ((IMixinWorldServer) worldServer).getDimensionId(), ((World) worldServer).getName(),
+                (System.nanoTime() - start) / 1000000, chunks.size() - stored);
+    }
+
+    /**
+     * Waits until the spawn chunks of the given world have been read.
+     *
+     * @param worldServer The world
+     */
+    public void await(WorldServer worldServer) {
+        final Runnable queued = this.queued.remove(worldServer);
+        if (queued != null) {
+            this.tasks.put(worldServer, this.executor.submit(queued));
+        }
+        final Future<?> task = this.tasks.remove(worldServer);
+        if (task == null) {
+            return;
+        }
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            SpongeImpl.getLogger().warn("Failed to read the spawn chunks of level {}", ((World) worldServer).getName(), e.getCause());
+        }
+    }
+
+    /**
+     * Discards the data of the given world that was read but not used, and
+     * starts reading the next world. Must be called once the spawn area of
+     * the world has been prepared.
+     *
+     * @param worldServer The world
+     */
+    public void release(WorldServer worldServer) {
+        final IMixinAnvilChunkLoader loader = this.loaders.remove(worldServer);
+        if (loader != null) {
+            loader.clearPrefetchedChunks();
+            this.submitNext();
+        }
+    }
+
+    /**
+     * Stops all reads which are still running and discards any data that
+     * was read but not used.
+     */
+    public void finish() {
+        this.executor.shutdownNow();
+        try {
+            this.executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (IMixinAnvilChunkLoader loader : this.loaders.values()) {
+            loader.clearPrefetchedChunks();
+        }
+        this.loaders.clear();
+    }
+
+}
@@ -26,21 +26,20 @@
 
 import com.flowpowered.math.GenericMath;
 import com.flowpowered.math.vector.Vector3i;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.block.material.Material;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
 import net.minecraft.world.border.WorldBorder;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.TeleportHelper;
 import org.spongepowered.api.world.World;
-import org.spongepowered.common.block.BlockUtil;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
@@ -55,132 +54,206 @@ public Optional<Location<World>> getSafeLocation(Location<World> location) {
     public Optional<Location<World>> getSafeLocation(Location<World> location, int height, int width) {
         final World world = location.getExtent();
 
-        IMixinChunkProviderServer chunkProviderServer = (IMixinChunkProviderServer)((net.minecraft.world.WorldServer) world).getChunkProvider();
+        IMixinChunkProviderServer chunkProviderServer = (IMixinChunkProviderServer)((WorldServer) world).getChunkProvider();
         chunkProviderServer.setForceChunkRequests(true);
-        // We cache the various block lookup results so we don't check a block twice.
-        final Map<Vector3i, BlockData> blockCache = new HashMap<>();
-
-        // Get the vectors to check, and get the block types with them.
-        // The vectors should be sorted by distance from the centre of the checking region, so
-        // this makes it easier to try to get close, because we can just iterate and get progressively further out.
-        Optional<Vector3i> result = getBlockLocations(location, height, width).filter(currentTarget -> {
-            // Get the block, add it to the cache.
-            BlockData block = getBlockData(currentTarget, world, blockCache);
-
-            // If the block isn't safe, no point in continuing on this run.
-            if (block.isSafeBody) {
-
-                // Check the block ABOVE is safe for the body, and the two BELOW are safe too.
-                if (getBlockData(currentTarget.add(0, 1, 0), world, blockCache).isSafeBody
-                        && isFloorSafe(currentTarget, world, blockCache)) {
-
-                    // This position should be safe. Get the center of the block to spawn into.
-                    return true;
-                }
-            }
-
-            return false;
-        }).findFirst();
+        final Vector3i result;
+        try {
+            result = new SafeLocationSearch((WorldServer) world, location.getBlockPosition(), height, width).find();
+        } finally {
+            chunkProviderServer.setForceChunkRequests(false);
+        }
 
-        chunkProviderServer.setForceChunkRequests(false);
-        if (result.isPresent()) {
-            return Optional.of(new Location<>(world, result.get().toDouble().add(0.5, 0, 0.5)));
+        if (result != null) {
+            return Optional.of(new Location<>(world, result.toDouble().add(0.5, 0, 0.5)));
         }
 
         // No vectors matched, so return an empty optional.
         return Optional.empty();
     }
 
-    private boolean isFloorSafe(Vector3i currentTarget, World world, Map<Vector3i, BlockData> blockCache) {
-        BlockData data = getBlockData(currentTarget.sub(0, 1, 0), world, blockCache);
-
-        // If it's a safe floor, we can just say yes now.
-        if (data.isSafeFloor) {
-            return true;
-        }
-
-        // If it's not safe for the body, then we don't want to go through it anyway.
-        if (!data.isSafeBody) {
-            return false;
-        }
-
-        // Check the next block down, if it's a floor, then we're good to go, otherwise we'd fall too far for our liking.
-        return getBlockData(currentTarget.sub(0, 2, 0), world, blockCache).isSafeFloor;
+    private static boolean isSafeFloorMaterial(@Nullable Material material) {
+        return material != null && !(material == Material.AIR || material == Material.CACTUS || material == Material.FIRE
+                || material == Material.LAVA);
     }
 
-    private Stream<Vector3i> getBlockLocations(Location<World> worldLocation, int height, int width) {
-        // We don't want to warp outside of the world border, so we want to check that we're within it.
-        WorldBorder worldBorder = (WorldBorder) worldLocation.getExtent().getWorldBorder();
-        int worldBorderMinX = GenericMath.floor(worldBorder.minX());
-        int worldBorderMinZ = GenericMath.floor(worldBorder.minZ());
-        int worldBorderMaxX = GenericMath.floor(worldBorder.maxX());
-        int worldBorderMaxZ = GenericMath.floor(worldBorder.maxZ());
-
-        // Get the World and get the maximum Y value.
-        int worldMaxY = worldLocation.getExtent().getBlockMax().getY();
-
-        Vector3i vectorLocation = worldLocation.getBlockPosition();
-
-        // We use clamp to remain within the world confines, so we don't waste time checking blocks outside of the
-        // world border and the world height.
-        int minY = GenericMath.clamp(vectorLocation.getY() - height, 0, worldMaxY);
-        int maxY = GenericMath.clamp(vectorLocation.getY() + height, 0, worldMaxY);
+    private static boolean isSafeBodyMaterial(@Nullable Material material) {
+        return material != null && (material == Material.AIR || material == Material.PLANTS
+                || material == Material.WATER || material == Material.REDSTONE_LIGHT || material == Material.CIRCUITS
+                || material == Material.SNOW || material == Material.PORTAL || material == Material.WEB || material == Material.VINE);
+    }
 
-        int minX = GenericMath.clamp(vectorLocation.getX() - width, worldBorderMinX, worldBorderMaxX);
-        int maxX = GenericMath.clamp(vectorLocation.getX() + width, worldBorderMinX, worldBorderMaxX);
+    /**
+     * Visits the positions of the search box in order of their distance to
+     * the origin, without creating them up front.
+     *
+     * <p>The box is split into lines along the z axis, one for each x and y.
+     * The positions of a line move away from the origin one step at a time,
+     * so only the next position of every line has to be known. These are
+     * kept in a binary heap ordered by distance, ties being broken by x, y
+     * and then z just like a sort of all positions would.</p>
+     */
+    private static final class SafeLocationSearch {
+
+        private final WorldServer world;
+        private final int originX;
+        private final int originY;
+        private final int originZ;
+        private final int minX;
+        private final int minY;
+        private final int minZ;
+        private final int maxZ;
+        private final int sizeX;
+        private final int sizeY;
+        private final int maxStep;
+        private final Long2ObjectMap<Chunk> chunks = new Long2ObjectOpenHashMap<>();
+
+        // The current step and the distance of the next position of each line
+        private int[] steps;
+        private long[] distances;
+
+        SafeLocationSearch(WorldServer world, Vector3i origin, int height, int width) {
+            this.world = world;
+            this.originX = origin.getX();
+            this.originY = origin.getY();
+            this.originZ = origin.getZ();
+
+            // We don't want to warp outside of the world border, so we want to check that we're within it.
+            final WorldBorder worldBorder = world.getWorldBorder();
+            final int worldMaxY = ((World) world).getBlockMax().getY();
+
+            // We use clamp to remain within the world confines, so we don't waste time checking blocks outside of the
+            // world border and the world height.
+            this.minX = GenericMath.clamp(this.originX - width, GenericMath.floor(worldBorder.minX()), GenericMath.floor(worldBorder.maxX()));
+            final int maxX = GenericMath.clamp(this.originX + width, GenericMath.floor(worldBorder.minX()), GenericMath.floor(worldBorder.maxX()));
+            this.minY = GenericMath.clamp(this.originY - height, 0, worldMaxY);
+            final int maxY = GenericMath.clamp(this.originY + height, 0, worldMaxY);
+            this.minZ = GenericMath.clamp(this.originZ - width, GenericMath.floor(worldBorder.minZ()), GenericMath.floor(worldBorder.maxZ()));
+            this.maxZ = GenericMath.clamp(this.originZ + width, GenericMath.floor(worldBorder.minZ()), GenericMath.floor(worldBorder.maxZ()));
+
+            this.sizeX = Math.max(0, maxX - this.minX + 1);
+            this.sizeY = Math.max(0, maxY - this.minY + 1);
+            this.maxStep = 2 * Math.max(Math.abs(this.minZ - this.originZ), Math.abs(this.maxZ - this.originZ));
+        }
 
-        int minZ = GenericMath.clamp(vectorLocation.getZ() - width, worldBorderMinZ, worldBorderMaxZ);
-        int maxZ = GenericMath.clamp(vectorLocation.getZ() + width, worldBorderMinZ, worldBorderMaxZ);
+        @Nullable
+        Vector3i find() {
+            if (this.minZ > this.maxZ) {
+                return null;
+            }
+            final int lines = this.sizeX * this.sizeY;
+            this.steps = new int[lines];
+            this.distances = new long[lines];
+            final int[] heap = new int[lines];
+            int size = 0;
+            for (int line = 0; line < lines; line++) {
+                if (this.advance(line, 0)) {
+                    heap[size++] = line;
+                }
+            }
+            for (int i = size / 2 - 1; i >= 0; i--) {
+                this.siftDown(heap, size, i);
+            }
 
-        // We now iterate over all possible x, y and z positions to get all possible vectors.
-        List<Vector3i> vectors = new ArrayList<>();
-        for (int x = minX; x <= maxX; x++) {
-            for (int y = minY; y <= maxY; y++) {
-                for (int z = minZ; z <= maxZ; z++) {
-                    vectors.add(new Vector3i(x, y, z));
+            while (size > 0) {
+                final int line = heap[0];
+                final int x = this.minX + line / this.sizeY;
+                final int y = this.minY + line % this.sizeY;
+                final int z = this.originZ + offset(this.steps[line]);
+                if (this.isSafe(x, y, z)) {
+                    return new Vector3i(x, y, z);
+                }
+                if (!this.advance(line, this.steps[line] + 1)) {
+                    heap[0] = heap[--size];
                 }
+                this.siftDown(heap, size, 0);
             }
+            return null;
         }
 
-        // Sort them according to the distance to the provided worldLocation.
-        return vectors.stream().sorted(Comparator.comparingInt(vectorLocation::distanceSquared));
-    }
-
-    private BlockData getBlockData(Vector3i vector3i, World world, Map<Vector3i, BlockData> cache) {
-        if (vector3i.getY() < 0) {
-            // Anything below this isn't safe, no point going further.
-            return new BlockData(null);
+        // Steps go 0, -1, 1, -2, 2... away from the origin
+        private static int offset(int step) {
+            return (step & 1) == 0 ? step >> 1 : -((step + 1) >> 1);
         }
 
-        if (cache.containsKey(vector3i)) {
-            return cache.get(vector3i);
+        private boolean advance(int line, int step) {
+            for (; step <= this.maxStep; step++) {
+                final int z = this.originZ + offset(step);
+                if (z >= this.minZ && z <= this.maxZ) {
+                    final long dx = this.minX + line / this.sizeY - this.originX;
+                    final long dy = this.minY + line % this.sizeY - this.originY;
+                    final long dz = z - this.originZ;
+                    this.steps[line] = step;
+                    this.distances[line] = dx * dx + dy * dy + dz * dz;
+                    return true;
+                }
+            }
+            return false;
         }
 
-        BlockData data = new BlockData(BlockUtil.toNative(world.getBlock(vector3i)).getMaterial());
-        cache.put(vector3i, data);
-        return data;
-    }
+        private void siftDown(int[] heap, int size, int index) {
+            final int line = heap[index];
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && this.before(heap[child + 1], heap[child])) {
+                    child++;
+                }
+                if (!this.before(heap[child], line)) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = line;
+        }
 
-    private class BlockData {
+        private boolean before(int a, int b) {
+            final long distanceA = this.distances[a];
+            final long distanceB = this.distances[b];
+            // Lines are numbered by x and then y, so the line breaks ties in the same order as the positions
+            return distanceA < distanceB || distanceA == distanceB && a < b;
+        }
 
-        private final boolean isSafeBody;
-        private final boolean isSafeFloor;
+        private boolean isSafe(int x, int y, int z) {
+            // If the block isn't safe, no point in continuing on this run.
+            if (!isSafeBodyMaterial(this.getMaterial(x, y, z)) || !isSafeBodyMaterial(this.getMaterial(x, y + 1, z))) {
+                return false;
+            }
+            final Material floor = this.getMaterial(x, y - 1, z);
 
-        // A null material just indicates that we want nothing to be marked as safe.
-        private BlockData(@Nullable Material material) {
-            this.isSafeBody = isSafeBodyMaterial(material);
-            this.isSafeFloor = isSafeFloorMaterial(material);
-        }
+            // If it's a safe floor, we can just say yes now.
+            if (isSafeFloorMaterial(floor)) {
+                return true;
+            }
 
-        private boolean isSafeFloorMaterial(@Nullable Material material) {
-            return material != null && !(material == Material.AIR || material == Material.CACTUS || material == Material.FIRE
-                    || material == Material.LAVA);
+            // If it's not safe for the body, then we don't want to go through it anyway.
+            // Check the next block down, if it's a floor, then we're good to go, otherwise we'd fall too far for our liking.
+            return isSafeBodyMaterial(floor) && isSafeFloorMaterial(this.getMaterial(x, y - 2, z));
         }
 
-        private boolean isSafeBodyMaterial(@Nullable Material material) {
-            return material != null && (material == Material.AIR || material == Material.PLANTS
-                    || material == Material.WATER || material == Material.REDSTONE_LIGHT || material == Material.CIRCUITS
-                    || material == Material.SNOW || material == Material.PORTAL || material == Material.WEB || material == Material.VINE);
+        @Nullable
+        private Material getMaterial(int x, int y, int z) {
+            if (y < 0) {
+                // Anything below this isn't safe, no point going further.
+                return null;
+            }
+            if (y >= 256) {
+                return Material.AIR;
+            }
+            final long key = ChunkPos.asLong(x >> 4, z >> 4);
+            Chunk chunk = this.chunks.get(key);
+            if (chunk == null) {
+                chunk = this.world.getChunkProvider().provideChunk(x >> 4, z >> 4);
+                this.chunks.put(key, chunk);
+            }
+            // Empty sections are all air, there is no need to look up their blocks
+            final ExtendedBlockStorage storage = chunk.getBlockStorageArray()[y >> 4];
+            if (storage == Chunk.NULL_BLOCK_STORAGE || storage.isEmpty()) {
+                return Material.AIR;
+            }
+            return storage.get(x & 15, y & 15, z & 15).getMaterial();
         }
     }
 }
@@ -35,18 +35,22 @@
 import org.spongepowered.common.util.gen.ArrayMutableBlockBuffer;
 import org.spongepowered.common.world.schematic.GlobalPalette;
 
+import javax.annotation.Nullable;
+
 public abstract class AbstractBlockViewDownsize<V extends BlockVolume> implements BlockVolume {
 
     protected final V volume;
     protected final Vector3i min;
     protected final Vector3i max;
     protected final Vector3i size;
+    @Nullable private final BlockSectionCursor cursor;
 
     public AbstractBlockViewDownsize(V volume, Vector3i min, Vector3i max) {
         this.volume = volume;
         this.min = min;
         this.max = max;
         this.size = max.sub(min).add(Vector3i.ONE);
+        this.cursor = BlockSectionCursor.of(volume);
     }
 
     @Override
@@ -83,6 +87,9 @@ public BlockType getBlockType(int x, int y, int z) {
     @Override
     public BlockState getBlock(int x, int y, int z) {
         checkRange(x, y, z);
+        if (this.cursor != null) {
+            return this.cursor.getBlock(x, y, z);
+        }
         return this.volume.getBlock(x, y, z);
     }
 
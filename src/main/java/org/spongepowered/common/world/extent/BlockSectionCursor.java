@@ -0,0 +1,119 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.extent;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.spongepowered.api.block.BlockState;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads blocks of a world or chunk directly from the chunk sections. The
+ * chunk that was last read from is remembered, so reading a volume in order
+ * only looks up a chunk once per column instead of once per block, and
+ * doesn't allocate a {@link net.minecraft.util.math.BlockPos} per block.
+ *
+ * <p>The last chunk is held in a single immutable holder, so a cursor that
+ * is shared between threads never mixes up chunks. Sections are read from
+ * the chunk on every access, so sections created after the chunk was looked
+ * up are seen as well.</p>
+ */
+public final class BlockSectionCursor {
+
+    private static final IBlockState AIR = Blocks.AIR.getDefaultState();
+
+    /**
+     * Creates a cursor for the given volume, if the blocks of the volume can
+     * be read directly from its chunk sections.
+     *
+     * @param volume The volume
+     * @return The cursor, or null if the volume isn't a world or chunk
+     */
+    @Nullable
+    public static BlockSectionCursor of(Object volume) {
+        if (volume instanceof World) {
+            final World world = (World) volume;
+            // The debug world doesn't store its blocks in sections
+            return world.getWorldType() == WorldType.DEBUG_WORLD ? null : new BlockSectionCursor(world, null);
+        }
+        if (volume instanceof Chunk) {
+            final Chunk chunk = (Chunk) volume;
+            return chunk.getWorld().getWorldType() == WorldType.DEBUG_WORLD ? null
+                    : new BlockSectionCursor(null, new Column(chunk.xPosition, chunk.zPosition, chunk));
+        }
+        return null;
+    }
+
+    @Nullable private final World world;
+    @Nullable private Column column;
+
+    private BlockSectionCursor(@Nullable World world, @Nullable Column column) {
+        this.world = world;
+        this.column = column;
+    }
+
+    /**
+     * Gets the block at the given world position. The position must be
+     * within the bounds of the volume this cursor was created for.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate
+     * @return The block
+     */
+    public BlockState getBlock(int x, int y, int z) {
+        if (y < 0 || y >= 256) {
+            return (BlockState) AIR;
+        }
+        Column column = this.column;
+        if (this.world != null && (column == null || column.x != x >> 4 || column.z != z >> 4
+                || !((org.spongepowered.api.world.Chunk) column.chunk).isLoaded())) {
+            column = this.column = new Column(x >> 4, z >> 4, this.world.getChunkFromChunkCoords(x >> 4, z >> 4));
+        }
+        final ExtendedBlockStorage storage = column.chunk.getBlockStorageArray()[y >> 4];
+        if (storage == Chunk.NULL_BLOCK_STORAGE) {
+            return (BlockState) AIR;
+        }
+        return (BlockState) storage.get(x & 15, y & 15, z & 15);
+    }
+
+    private static final class Column {
+
+        final int x;
+        final int z;
+        final Chunk chunk;
+
+        Column(int x, int z, Chunk chunk) {
+            this.x = x;
+            this.z = z;
+            this.chunk = chunk;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.extent;
+
+import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.util.DiscreteTransform3;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.StorageType;
+import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
+import org.spongepowered.api.world.extent.worker.BlockVolumeWorker;
+import org.spongepowered.api.world.schematic.BlockPalette;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.world.IMixinExtendedBlockStorage;
+import org.spongepowered.common.util.gen.AbstractBlockBuffer;
+import org.spongepowered.common.util.gen.ArrayMutableBlockBuffer;
+import org.spongepowered.common.world.extent.worker.SpongeBlockVolumeWorker;
+import org.spongepowered.common.world.schematic.GlobalPalette;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable copy of the blocks of a world region, which shares the chunk
+ * sections of the world instead of copying every block. Each section is
+ * only copied once the world is about to change it, see
+ * {@link SectionSnapshot}.
+ */
+public final class CopyOnWriteBlockBuffer extends AbstractBlockBuffer implements ImmutableBlockVolume {
+
+    @SuppressWarnings("ConstantConditions")
+    private static final BlockState AIR = BlockTypes.AIR.getDefaultState();
+
+    /**
+     * Creates a copy-on-write copy of the given region of the world backing
+     * the given volume, if possible. Sections may only be shared while the
+     * copy is taken on the main thread, since the world changes its
+     * sections from there.
+     *
+     * @param volume The volume to copy
+     * @param min The minimum block position of the region
+     * @param max The maximum block position of the region
+     * @return The copy, or null if the volume can't be copied this way
+     */
+    @Nullable
+    public static ImmutableBlockVolume of(Object volume, Vector3i min, Vector3i max) {
+        if (!SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useCopyOnWriteBlockCopies()
+                || !SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+            return null;
+        }
+        @Nullable final World world = getWorld(volume);
+        // The debug world doesn't store its blocks in sections
+        if (world == null || world.getWorldType() == WorldType.DEBUG_WORLD || min.getY() < 0 || max.getY() >= 256) {
+            return null;
+        }
+        return new CopyOnWriteBlockBuffer(world, min, max);
+    }
+
+    @Nullable
+    private static World getWorld(Object volume) {
+        if (volume instanceof World) {
+            return (World) volume;
+        }
+        if (volume instanceof Chunk) {
+            return ((Chunk) volume).getWorld();
+        }
+        if (volume instanceof ExtentViewDownsize) {
+            return getWorld(((ExtentViewDownsize) volume).getExtent());
+        }
+        return null;
+    }
+
+    private final int sectionXMin;
+    private final int sectionYMin;
+    private final int sectionZMin;
+    private final int sectionsY;
+    private final int sectionsZ;
+    // Null entries are empty sections
+    private final SectionSnapshot[] sections;
+
+    private CopyOnWriteBlockBuffer(World world, Vector3i min, Vector3i max) {
+        super(min, max.sub(min).add(Vector3i.ONE));
+        this.sectionXMin = min.getX() >> 4;
+        this.sectionYMin = min.getY() >> 4;
+        this.sectionZMin = min.getZ() >> 4;
+        final int sectionsX = (max.getX() >> 4) - this.sectionXMin + 1;
+        this.sectionsY = (max.getY() >> 4) - this.sectionYMin + 1;
+        this.sectionsZ = (max.getZ() >> 4) - this.sectionZMin + 1;
+        this.sections = new SectionSnapshot[sectionsX * this.sectionsY * this.sectionsZ];
+        for (int x = 0; x < sectionsX; x++) {
+            for (int z = 0; z < this.sectionsZ; z++) {
+                final Chunk chunk = world.getChunkFromChunkCoords(this.sectionXMin + x, this.sectionZMin + z);
+                final ExtendedBlockStorage[] storage = chunk.getBlockStorageArray();
+                for (int y = 0; y < this.sectionsY; y++) {
+                    final ExtendedBlockStorage section = storage[this.sectionYMin + y];
+                    if (section != Chunk.NULL_BLOCK_STORAGE) {
+                        final SectionSnapshot snapshot = new SectionSnapshot(section);
+                        ((IMixinExtendedBlockStorage) section).addSnapshot(snapshot);
+                        this.sections[this.getSectionIndex(x, y, z)] = snapshot;
+                    }
+                }
+            }
+        }
+    }
+
+    private int getSectionIndex(int x, int y, int z) {
+        return (x * this.sectionsZ + z) * this.sectionsY + y;
+    }
+
+    @Override
+    public BlockPalette getPalette() {
+        return GlobalPalette.instance;
+    }
+
+    @Override
+    public BlockState getBlock(int x, int y, int z) {
+        checkRange(x, y, z);
+        final SectionSnapshot section = this.sections[this.getSectionIndex((x >> 4) - this.sectionXMin, (y >> 4) - this.sectionYMin,
+                (z >> 4) - this.sectionZMin)];
+        return section == null ? AIR : (BlockState) section.get(x & 15, y & 15, z & 15);
+    }
+
+    @Override
+    public ImmutableBlockVolume getBlockView(Vector3i newMin, Vector3i newMax) {
+        checkRange(newMin.getX(), newMin.getY(), newMin.getZ());
+        checkRange(newMax.getX(), newMax.getY(), newMax.getZ());
+        return new ImmutableBlockViewDownsize(this, newMin, newMax);
+    }
+
+    @Override
+    public ImmutableBlockVolume getBlockView(DiscreteTransform3 transform) {
+        return new ImmutableBlockViewTransform(this, transform);
+    }
+
+    @Override
+    public UnmodifiableBlockVolume getUnmodifiableBlockView() {
+        return this;
+    }
+
+    @Override
+    public BlockVolumeWorker<? extends ImmutableBlockVolume> getBlockWorker(Cause cause) {
+        return new SpongeBlockVolumeWorker<>(this, cause);
+    }
+
+    @Override
+    public MutableBlockVolume getBlockCopy(StorageType type) {
+        switch (type) {
+            case STANDARD:
+                return new ArrayMutableBlockBuffer(GlobalPalette.instance, this.start, this.size,
+                        ExtentBufferUtil.copyToArray(this, this.start, this.end, this.size));
+            case THREAD_SAFE:
+            default:
+                throw new UnsupportedOperationException(type.name());
+        }
+    }
+
+}
@@ -140,6 +140,10 @@ default MutableBlockVolume getBlockCopy(StorageType type) {
 
     @Override
     default ImmutableBlockVolume getImmutableBlockCopy() {
+        final ImmutableBlockVolume copy = CopyOnWriteBlockBuffer.of(this, getBlockMin(), getBlockMax());
+        if (copy != null) {
+            return copy;
+        }
         char[] data = ExtentBufferUtil.copyToArray((BlockVolume) this, getBlockMin(), getBlockMax(), getBlockSize());
         return ArrayImmutableBlockBuffer.newWithoutArrayClone(GlobalPalette.instance, getBlockMin(), getBlockSize(), data);
     }
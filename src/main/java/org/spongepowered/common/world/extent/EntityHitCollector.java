@@ -0,0 +1,87 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.extent;
+
+import com.flowpowered.math.vector.Vector3d;
+import net.minecraft.entity.Entity;
+import org.spongepowered.api.util.AABB;
+import org.spongepowered.api.util.Tuple;
+import org.spongepowered.api.world.extent.EntityUniverse.EntityHit;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Collects the {@link EntityHit}s of a ray query, for the API methods which
+ * return them all at once.
+ */
+public final class EntityHitCollector implements EntityHitVisitor {
+
+    private final Vector3d start;
+    private final Vector3d direction;
+    private final double distance;
+    private final Predicate<EntityHit> filter;
+    private final Set<EntityHit> intersections = new HashSet<>();
+
+    public EntityHitCollector(Vector3d start, Vector3d direction, double distance, Predicate<EntityHit> filter) {
+        this.start = start;
+        this.direction = direction;
+        this.distance = distance;
+        this.filter = filter;
+    }
+
+    @Override
+    public boolean visit(Entity entity, double distance) {
+        final org.spongepowered.api.entity.Entity spongeEntity = (org.spongepowered.api.entity.Entity) entity;
+        final Optional<AABB> box = spongeEntity.getBoundingBox();
+        if (!box.isPresent()) {
+            return true;
+        }
+        // Only entities which passed the cheap test get here, compute the exact intersection for the hit
+        final Optional<Tuple<Vector3d, Vector3d>> optionalIntersection = box.get().intersects(this.start, this.direction);
+        if (!optionalIntersection.isPresent()) {
+            return true;
+        }
+        // Check that the entity isn't too far away
+        final Tuple<Vector3d, Vector3d> intersection = optionalIntersection.get();
+        final double distanceSquared = intersection.getFirst().sub(this.start).lengthSquared();
+        if (distanceSquared > this.distance * this.distance) {
+            return true;
+        }
+        // Now test the filter on the entity and intersection
+        final EntityHit hit = new EntityHit(spongeEntity, intersection.getFirst(), intersection.getSecond(), Math.sqrt(distanceSquared));
+        if (this.filter.test(hit)) {
+            this.intersections.add(hit);
+        }
+        return true;
+    }
+
+    public Set<EntityHit> getIntersections() {
+        return this.intersections;
+    }
+
+}
@@ -73,6 +73,7 @@
 public class ExtentViewDownsize implements DefaultedExtent {
 
     private final Extent extent;
+    @Nullable private final BlockSectionCursor cursor;
     private final Vector3i blockMin;
     private final Vector3i blockMax;
     private final Vector3i blockSize;
@@ -82,6 +83,7 @@ public class ExtentViewDownsize implements DefaultedExtent {
 
     public ExtentViewDownsize(Extent extent, Vector3i blockMin, Vector3i blockMax) {
         this.extent = extent;
+        this.cursor = BlockSectionCursor.of(extent);
         this.blockMin = blockMin;
         this.blockMax = blockMax;
         this.blockSize = this.blockMax.sub(this.blockMin).add(Vector3i.ONE);
@@ -90,6 +92,10 @@ public ExtentViewDownsize(Extent extent, Vector3i blockMin, Vector3i blockMax) {
         this.biomeSize = this.biomeMax.sub(this.biomeMin).add(Vector3i.ONE);
     }
 
+    Extent getExtent() {
+        return this.extent;
+    }
+
     @Override
     public UUID getUniqueId() {
         return this.extent.getUniqueId();
@@ -173,12 +179,18 @@ private void checkBlockRange(int x, int y, int z) {
     @Override
     public BlockType getBlockType(int x, int y, int z) {
         checkBlockRange(x, y, z);
+        if (this.cursor != null) {
+            return this.cursor.getBlock(x, y, z).getType();
+        }
         return this.extent.getBlockType(x, y, z);
     }
 
     @Override
     public BlockState getBlock(int x, int y, int z) {
         checkBlockRange(x, y, z);
+        if (this.cursor != null) {
+            return this.cursor.getBlock(x, y, z);
+        }
         return this.extent.getBlock(x, y, z);
     }
 
@@ -72,6 +72,10 @@ public UnmodifiableBlockVolume getUnmodifiableBlockView() {
 
     @Override
     public ImmutableBlockVolume getImmutableBlockCopy() {
+        final ImmutableBlockVolume copy = CopyOnWriteBlockBuffer.of(this.volume, this.min, this.max);
+        if (copy != null) {
+            return copy;
+        }
         char[] data = ExtentBufferUtil.copyToArray(this, this.min, this.max, this.size);
         return ArrayImmutableBlockBuffer.newWithoutArrayClone(GlobalPalette.instance, this.min, this.size, data);
     }
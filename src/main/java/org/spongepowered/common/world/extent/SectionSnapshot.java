@@ -0,0 +1,74 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.extent;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+import javax.annotation.Nullable;
+
+/**
+ * A copy-on-write snapshot of the blocks of a chunk section. The snapshot
+ * reads from the live section until the section is about to be changed,
+ * at which point the section copies its blocks into the snapshot.
+ */
+public final class SectionSnapshot {
+
+    @Nullable private ExtendedBlockStorage section;
+    @Nullable private char[] blocks;
+
+    SectionSnapshot(ExtendedBlockStorage section) {
+        this.section = section;
+    }
+
+    synchronized IBlockState get(int x, int y, int z) {
+        if (this.blocks != null) {
+            return Block.BLOCK_STATE_IDS.getByValue(this.blocks[y << 8 | z << 4 | x]);
+        }
+        return this.section.get(x, y, z);
+    }
+
+    /**
+     * Copies the blocks of the live section into this snapshot, so that it
+     * no longer depends on the section. Called by the section right before
+     * it is changed.
+     */
+    public synchronized void detach() {
+        if (this.section == null) {
+            return;
+        }
+        final char[] blocks = new char[4096];
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    blocks[y << 8 | z << 4 | x] = (char) Block.BLOCK_STATE_IDS.get(this.section.get(x, y, z));
+                }
+            }
+        }
+        this.blocks = blocks;
+        this.section = null;
+    }
+}
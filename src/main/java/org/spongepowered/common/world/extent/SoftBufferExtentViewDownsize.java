@@ -73,6 +73,7 @@
 public class SoftBufferExtentViewDownsize implements DefaultedExtent {
 
     private final Extent extent;
+    @Nullable private final BlockSectionCursor cursor;
     private final Vector3i blockMin;
     private final Vector3i blockMax;
     private final Vector3i blockSize;
@@ -86,6 +87,7 @@ public class SoftBufferExtentViewDownsize implements DefaultedExtent {
 
     public SoftBufferExtentViewDownsize(Extent extent, Vector3i blockMin, Vector3i blockMax, Vector3i hardMin, Vector3i hardMax) {
         this.extent = extent;
+        this.cursor = BlockSectionCursor.of(extent);
         this.blockMin = blockMin;
         this.blockMax = blockMax;
         this.blockSize = this.blockMax.sub(this.blockMin).add(Vector3i.ONE);
@@ -181,12 +183,18 @@ private void checkBlockRange(int x, int y, int z) {
     @Override
     public BlockType getBlockType(int x, int y, int z) {
         checkBlockRange(x, y, z);
+        if (this.cursor != null) {
+            return this.cursor.getBlock(x, y, z).getType();
+        }
         return this.extent.getBlockType(x, y, z);
     }
 
     @Override
     public BlockState getBlock(int x, int y, int z) {
         checkBlockRange(x, y, z);
+        if (this.cursor != null) {
+            return this.cursor.getBlock(x, y, z);
+        }
         return this.extent.getBlock(x, y, z);
     }
 
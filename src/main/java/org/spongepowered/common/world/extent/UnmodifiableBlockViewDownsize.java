@@ -55,6 +55,10 @@ public UnmodifiableBlockVolume getBlockView(DiscreteTransform3 transform) {
 
     @Override
     public ImmutableBlockVolume getImmutableBlockCopy() {
+        final ImmutableBlockVolume copy = CopyOnWriteBlockBuffer.of(this.volume, this.min, this.max);
+        if (copy != null) {
+            return copy;
+        }
         char[] data = ExtentBufferUtil.copyToArray(this, this.min, this.max, this.size);
         return ArrayImmutableBlockBuffer.newWithoutArrayClone(GlobalPalette.instance, this.min, this.size, data);
     }
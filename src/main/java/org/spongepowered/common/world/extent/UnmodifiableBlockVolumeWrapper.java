@@ -36,12 +36,16 @@
 import org.spongepowered.api.world.extent.worker.BlockVolumeWorker;
 import org.spongepowered.common.world.extent.worker.SpongeBlockVolumeWorker;
 
+import javax.annotation.Nullable;
+
 public class UnmodifiableBlockVolumeWrapper implements UnmodifiableBlockVolume {
 
     private final MutableBlockVolume volume;
+    @Nullable private final BlockSectionCursor cursor;
 
     public UnmodifiableBlockVolumeWrapper(MutableBlockVolume volume) {
         this.volume = volume;
+        this.cursor = BlockSectionCursor.of(volume);
     }
 
     @Override
@@ -66,11 +70,17 @@ public boolean containsBlock(int x, int y, int z) {
 
     @Override
     public BlockType getBlockType(int x, int y, int z) {
+        if (this.cursor != null && this.volume.containsBlock(x, y, z)) {
+            return this.cursor.getBlock(x, y, z).getType();
+        }
         return this.volume.getBlockType(x, y, z);
     }
 
     @Override
     public BlockState getBlock(int x, int y, int z) {
+        if (this.cursor != null && this.volume.containsBlock(x, y, z)) {
+            return this.cursor.getBlock(x, y, z);
+        }
         return this.volume.getBlock(x, y, z);
     }
 
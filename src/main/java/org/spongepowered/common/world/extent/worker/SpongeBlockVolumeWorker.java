@@ -32,6 +32,7 @@
 import org.spongepowered.api.event.cause.NamedCause;
 import org.spongepowered.api.world.Chunk;
 import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
 import org.spongepowered.api.world.extent.worker.BlockVolumeWorker;
@@ -39,12 +40,15 @@
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMerger;
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeReducer;
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeVisitor;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.event.InternalNamedCauses;
 import org.spongepowered.common.event.tracking.CauseTracker;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BiFunction;
 
 /**
@@ -52,6 +56,9 @@
  */
 public class SpongeBlockVolumeWorker<V extends BlockVolume> implements BlockVolumeWorker<V> {
 
+    // The number of blocks from which a volume is worked on in parallel
+    private static final int PARALLEL_THRESHOLD = 16 * 16 * 256;
+
     protected final V volume;
     protected final Cause cause;
 
@@ -154,12 +161,35 @@ public void merge(BlockVolume second, BlockVolumeMerger merger, MutableBlockVolu
 
     @Override
     public void iterate(BlockVolumeVisitor<V> visitor) {
+        this.iterate(visitor, !SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useParallelBlockWorkerIteration());
+    }
+
+    /**
+     * Visits all blocks of the volume. If the order of the visits isn't
+     * required, large immutable volumes are visited in parallel.
+     *
+     * @param visitor The visitor
+     * @param ordered Whether the blocks must be visited in order
+     */
+    public void iterate(BlockVolumeVisitor<V> visitor, boolean ordered) {
         final int xMin = this.volume.getBlockMin().getX();
         final int yMin = this.volume.getBlockMin().getY();
         final int zMin = this.volume.getBlockMin().getZ();
         final int xMax = this.volume.getBlockMax().getX();
         final int yMax = this.volume.getBlockMax().getY();
         final int zMax = this.volume.getBlockMax().getZ();
+        if (!ordered && this.canRunInParallel(this.volume)) {
+            partition(xMin, zMin, xMax, zMax).parallelStream().forEach(partition -> {
+                for (int z = partition.zMin; z <= partition.zMax; z++) {
+                    for (int y = yMin; y <= yMax; y++) {
+                        for (int x = partition.xMin; x <= partition.xMax; x++) {
+                            visitor.visit(this.volume, x, y, z);
+                        }
+                    }
+                }
+            });
+            return;
+        }
         IMixinWorldServer mixinWorld = null;
         if (this.volume instanceof IMixinWorldServer) {
             mixinWorld = (IMixinWorldServer) this.volume;
@@ -194,6 +224,24 @@ public <T> T reduce(BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T
         final int xMax = unmodifiableVolume.getBlockMax().getX();
         final int yMax = unmodifiableVolume.getBlockMax().getY();
         final int zMax = unmodifiableVolume.getBlockMax().getZ();
+        if (SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useParallelBlockWorkerReduction()
+                && this.canRunInParallel(unmodifiableVolume)) {
+            // Each partition is reduced from the identity, and the partial
+            // reductions are merged in order
+            return partition(xMin, zMin, xMax, zMax).parallelStream()
+                    .map(partition -> {
+                        T reduction = identity;
+                        for (int z = partition.zMin; z <= partition.zMax; z++) {
+                            for (int y = yMin; y <= yMax; y++) {
+                                for (int x = partition.xMin; x <= partition.xMax; x++) {
+                                    reduction = reducer.reduce(unmodifiableVolume, x, y, z, reduction);
+                                }
+                            }
+                        }
+                        return reduction;
+                    })
+                    .reduce(identity, merge::apply);
+        }
         T reduction = identity;
         for (int z = zMin; z <= zMax; z++) {
             for (int y = yMin; y <= yMax; y++) {
@@ -205,6 +253,45 @@ public <T> T reduce(BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T
         return reduction;
     }
 
+    /**
+     * Gets whether the given volume can be read from multiple threads, and
+     * is large enough for that to pay off. Only immutable volumes are safe
+     * to read concurrently.
+     */
+    private boolean canRunInParallel(BlockVolume volume) {
+        final Vector3i size = volume.getBlockSize();
+        return volume instanceof ImmutableBlockVolume && (long) size.getX() * size.getY() * size.getZ() >= PARALLEL_THRESHOLD;
+    }
+
+    /**
+     * Splits the given area into columns aligned to the chunk grid.
+     */
+    private static List<Partition> partition(int xMin, int zMin, int xMax, int zMax) {
+        final List<Partition> partitions = new ArrayList<>();
+        for (int z = zMin; z <= zMax; z = (z & ~15) + 16) {
+            final int partitionZMax = Math.min(zMax, (z & ~15) + 15);
+            for (int x = xMin; x <= xMax; x = (x & ~15) + 16) {
+                partitions.add(new Partition(x, z, Math.min(xMax, (x & ~15) + 15), partitionZMax));
+            }
+        }
+        return partitions;
+    }
+
+    private static final class Partition {
+
+        final int xMin;
+        final int zMin;
+        final int xMax;
+        final int zMax;
+
+        Partition(int xMin, int zMin, int xMax, int zMax) {
+            this.xMin = xMin;
+            this.zMin = zMin;
+            this.xMax = xMax;
+            this.zMax = zMax;
+        }
+    }
+
     private Vector3i align(BlockVolume other) {
         final Vector3i thisSize = this.volume.getBlockSize();
         final Vector3i otherSize = other.getBlockSize();
@@ -0,0 +1,326 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.vector.Vector3i;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.spongepowered.api.block.tileentity.TileEntityArchetype;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.NamedCause;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.world.BlockChangeFlag;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.common.event.InternalNamedCauses;
+import org.spongepowered.common.event.tracking.CauseTracker;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.scheduler.SpongeScheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Pastes an {@link SpongeArchetypeVolume} in to a world over several ticks.
+ *
+ * <p>The target area is walked one chunk section at a time, ordered by
+ * chunk column so that every chunk is touched by a single contiguous run
+ * of sections. Each tick applies as many whole sections as fit in the tick
+ * budget, inside a single {@link PluginPhase.State#BLOCK_WORKER} phase so
+ * that the captured block changes of the whole slice are processed
+ * together instead of once per block. Tile entities are created right
+ * after the section containing them has been placed.</p>
+ *
+ * <p>Lighting and client updates are not batched. Every block still goes
+ * through {@link World#setBlock}, so that the block change flag, events and
+ * tracking apply to it as usual, which relights and notifies per block.</p>
+ */
+public final class ArchetypeVolumePaste implements Consumer<Task> {
+
+    private final SpongeArchetypeVolume volume;
+    private final Location<World> location;
+    private final World world;
+    private final BlockChangeFlag flag;
+    private final Cause cause;
+    private final long tickTimeLimit;
+    private final boolean preloadChunks;
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+    private final Long2ObjectMap<List<Map.Entry<Vector3i, TileEntityArchetype>>> tilesBySection = new Long2ObjectOpenHashMap<>();
+    private final List<List<Map.Entry<Vector3i, TileEntityArchetype>>> pendingTiles = new ArrayList<>();
+
+    // Target area in world coordinates
+    private final int xMin;
+    private final int yMin;
+    private final int zMin;
+    private final int xMax;
+    private final int yMax;
+    private final int zMax;
+
+    private final int sectionXMin;
+    private final int sectionXMax;
+    private final int sectionYMin;
+    private final int sectionYMax;
+    private final int sectionZMin;
+    private final int sectionZMax;
+    private final int totalSections;
+
+    private int sectionX;
+    private int sectionY;
+    private int sectionZ;
+    private int appliedSections;
+    private boolean preloaded;
+
+    ArchetypeVolumePaste(SpongeArchetypeVolume volume, Location<World> location, BlockChangeFlag flag, Cause cause, float tickPercent,
+            boolean preloadChunks) {
+        checkNotNull(location, "location");
+        checkNotNull(flag, "flag");
+        checkNotNull(cause, "cause");
+        checkArgument(tickPercent > 0 && tickPercent <= 1, "tickPercent must be greater than zero and smaller or equal to 1");
+        this.volume = volume;
+        this.location = location;
+        this.world = location.getExtent();
+        this.flag = flag;
+        this.cause = cause;
+        this.preloadChunks = preloadChunks;
+        this.preloaded = !preloadChunks;
+        this.tickTimeLimit = Math.round(SpongeScheduler.getInstance().getPreferredTickInterval() * tickPercent);
+
+        final Vector3i min = volume.getBlockMin();
+        final Vector3i max = volume.getBlockMax();
+        this.xMin = min.getX() + location.getBlockX();
+        this.yMin = min.getY() + location.getBlockY();
+        this.zMin = min.getZ() + location.getBlockZ();
+        this.xMax = max.getX() + location.getBlockX();
+        this.yMax = max.getY() + location.getBlockY();
+        this.zMax = max.getZ() + location.getBlockZ();
+
+        this.sectionXMin = this.xMin >> 4;
+        this.sectionXMax = this.xMax >> 4;
+        this.sectionYMin = this.yMin >> 4;
+        this.sectionYMax = this.yMax >> 4;
+        this.sectionZMin = this.zMin >> 4;
+        this.sectionZMax = this.zMax >> 4;
+        this.totalSections = (this.sectionXMax - this.sectionXMin + 1) * (this.sectionYMax - this.sectionYMin + 1)
+                * (this.sectionZMax - this.sectionZMin + 1);
+        this.sectionX = this.sectionXMin;
+        this.sectionY = this.sectionYMin;
+        this.sectionZ = this.sectionZMin;
+
+        for (Map.Entry<Vector3i, TileEntityArchetype> entry : volume.getTileEntityArchetypes().entrySet()) {
+            final Vector3i pos = entry.getKey();
+            final long key = sectionKey((pos.getX() + location.getBlockX()) >> 4, (pos.getY() + location.getBlockY()) >> 4,
+                    (pos.getZ() + location.getBlockZ()) >> 4);
+            List<Map.Entry<Vector3i, TileEntityArchetype>> tiles = this.tilesBySection.get(key);
+            if (tiles == null) {
+                tiles = new ArrayList<>();
+                this.tilesBySection.put(key, tiles);
+            }
+            tiles.add(entry);
+        }
+    }
+
+    /**
+     * Schedules the paste on the main thread, owned by the plugin at the
+     * root of the cause.
+     *
+     * @return This paste, for chaining
+     */
+    ArchetypeVolumePaste start() {
+        final Object root = this.cause.root();
+        checkArgument(root instanceof PluginContainer, "PluginContainer must be at the ROOT of a cause!");
+        Task.builder()
+                .name("ArchetypeVolumePaste{world=" + this.world.getName() + ", position=" + this.location.getBlockPosition() + "}")
+                .execute(this)
+                .intervalTicks(1)
+                .submit(root);
+        return this;
+    }
+
+    /**
+     * Gets the future that completes once every section and tile entity
+     * has been placed, or completes exceptionally if the paste failed.
+     *
+     * @return The completion future
+     */
+    public CompletableFuture<Void> getFuture() {
+        return this.future;
+    }
+
+    /**
+     * Gets the fraction of chunk sections that have been applied so far.
+     *
+     * @return The progress, between 0 and 1
+     */
+    public double getProgress() {
+        return this.totalSections == 0 ? 1 : (double) this.appliedSections / this.totalSections;
+    }
+
+    @Override
+    public void accept(Task task) {
+        if (this.future.isDone()) {
+            task.cancel();
+            return;
+        }
+        if (!this.world.isLoaded()) {
+            task.cancel();
+            this.future.completeExceptionally(new IllegalStateException("World " + this.world.getName() + " was unloaded while pasting"));
+            return;
+        }
+        final long startTime = System.currentTimeMillis();
+        try {
+            if (!this.preloaded) {
+                preloadChunks(startTime);
+                return;
+            }
+            applySections(startTime);
+        } catch (Throwable t) {
+            task.cancel();
+            this.future.completeExceptionally(t);
+            return;
+        }
+        if (this.appliedSections >= this.totalSections) {
+            task.cancel();
+            this.future.complete(null);
+        }
+    }
+
+    private void preloadChunks(long startTime) {
+        // The section y cursor is unused while preloading, the x/z cursor walks the chunk columns
+        do {
+            this.world.loadChunk(this.sectionX, 0, this.sectionZ, true);
+            if (!advanceColumn()) {
+                this.sectionX = this.sectionXMin;
+                this.sectionZ = this.sectionZMin;
+                this.preloaded = true;
+                return;
+            }
+        } while (System.currentTimeMillis() - startTime < this.tickTimeLimit);
+    }
+
+    private void applySections(long startTime) {
+        final CauseTracker causeTracker = CauseTracker.ENABLED && this.world instanceof IMixinWorldServer
+                ? ((IMixinWorldServer) this.world).getCauseTracker()
+                : null;
+        if (causeTracker != null) {
+            final PhaseContext context = PhaseContext.start()
+                    .add(NamedCause.of(InternalNamedCauses.General.PLUGIN_CAUSE, this.cause))
+                    .addCaptures()
+                    .add(NamedCause.of(InternalNamedCauses.General.BLOCK_CHANGE, new PhaseContext.CaptureFlag()))
+                    .add(NamedCause.source(this.cause.root()));
+            for (Map.Entry<String, Object> entry : this.cause.getNamedCauses().entrySet()) {
+                context.add(NamedCause.of(entry.getKey(), entry.getValue()));
+            }
+            context.complete();
+            causeTracker.switchToPhase(PluginPhase.State.BLOCK_WORKER, context);
+        }
+        try {
+            do {
+                applySection(this.sectionX, this.sectionY, this.sectionZ);
+                this.appliedSections++;
+            } while (advanceSection() && System.currentTimeMillis() - startTime < this.tickTimeLimit);
+        } finally {
+            if (causeTracker != null) {
+                causeTracker.completePhase();
+            }
+        }
+        // Tile entities are applied outside of the block worker phase, the
+        // same way SpongeArchetypeVolume#apply applies them after the blocks
+        // have been set. Only the sections placed during this tick have
+        // tiles left to apply.
+        for (List<Map.Entry<Vector3i, TileEntityArchetype>> tiles : this.pendingTiles) {
+            for (Map.Entry<Vector3i, TileEntityArchetype> entry : tiles) {
+                entry.getValue().apply(this.location.add(entry.getKey()), this.cause);
+            }
+        }
+        this.pendingTiles.clear();
+    }
+
+    private void applySection(int sectionX, int sectionY, int sectionZ) {
+        if (!this.preloadChunks && sectionY == this.sectionYMin) {
+            this.world.loadChunk(sectionX, 0, sectionZ, true);
+        }
+        final MutableBlockVolume backing = this.volume.getBacking();
+        final int xOffset = this.location.getBlockX();
+        final int yOffset = this.location.getBlockY();
+        final int zOffset = this.location.getBlockZ();
+        final int x0 = Math.max(sectionX << 4, this.xMin);
+        final int x1 = Math.min((sectionX << 4) + 15, this.xMax);
+        final int y0 = Math.max(sectionY << 4, this.yMin);
+        final int y1 = Math.min((sectionY << 4) + 15, this.yMax);
+        final int z0 = Math.max(sectionZ << 4, this.zMin);
+        final int z1 = Math.min((sectionZ << 4) + 15, this.zMax);
+        for (int y = y0; y <= y1; y++) {
+            for (int z = z0; z <= z1; z++) {
+                for (int x = x0; x <= x1; x++) {
+                    this.world.setBlock(x, y, z, backing.getBlock(x - xOffset, y - yOffset, z - zOffset), this.flag, this.cause);
+                }
+            }
+        }
+        final List<Map.Entry<Vector3i, TileEntityArchetype>> tiles = this.tilesBySection.remove(sectionKey(sectionX, sectionY, sectionZ));
+        if (tiles != null) {
+            this.pendingTiles.add(tiles);
+        }
+    }
+
+    private boolean advanceSection() {
+        if (++this.sectionY <= this.sectionYMax) {
+            return true;
+        }
+        this.sectionY = this.sectionYMin;
+        return advanceColumn();
+    }
+
+    private boolean advanceColumn() {
+        if (++this.sectionZ <= this.sectionZMax) {
+            return true;
+        }
+        this.sectionZ = this.sectionZMin;
+        return ++this.sectionX <= this.sectionXMax;
+    }
+
+    private static long sectionKey(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | (y & 0xFFF);
+    }
+
+    @Override
+    public String toString() {
+        return "ArchetypeVolumePaste{" +
+                "world=" + this.world.getName() +
+                ", position=" + this.location.getBlockPosition() +
+                ", sections=" + this.appliedSections + "/" + this.totalSections +
+                '}';
+    }
+
+}
@@ -88,6 +88,25 @@ public void apply(Location<World> location, BlockChangeFlag changeFlag, Cause ca
         }
     }
 
+    /**
+     * Applies this volume to the world over several ticks instead of all at
+     * once, see {@link ArchetypeVolumePaste}. The paste is owned by the
+     * plugin at the root of the cause.
+     *
+     * @param location The location to paste at
+     * @param changeFlag The block change flag to use for every block
+     * @param cause The cause of the paste
+     * @param tickPercent The fraction of a tick that may be spent pasting
+     *     each tick
+     * @param preloadChunks Whether all target chunks should be loaded, spread
+     *     over ticks, before the first block is placed
+     * @return The scheduled paste
+     */
+    public ArchetypeVolumePaste applyGradually(Location<World> location, BlockChangeFlag changeFlag, Cause cause, float tickPercent,
+            boolean preloadChunks) {
+        return new ArchetypeVolumePaste(this, location, changeFlag, cause, tickPercent, preloadChunks).start();
+    }
+
     @Override
     public boolean setBlock(int x, int y, int z, BlockState block, Cause cause) {
         this.backing.setBlock(x, y, z, block, cause);
@@ -0,0 +1,127 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import org.spongepowered.common.SpongeImpl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+/**
+ * Writes player related NBT files from a background thread.
+ *
+ * <p>Writes are keyed by their target file, so submitting a file that is
+ * still waiting to be written replaces the pending snapshot instead of
+ * queueing a second write. Every file is written to a temporary file first
+ * and then moved into place.</p>
+ */
+public final class PlayerDataWriter {
+
+    private static final Map<Path, Supplier<NBTTagCompound>> pendingWrites = new ConcurrentHashMap<>();
+    private static final ReentrantLock writeLock = new ReentrantLock();
+    private static final ExecutorService writerService = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("Sponge - Player Data Writer")
+            .setDaemon(true)
+            .build());
+
+    /**
+     * Queues the compound provided by the supplier to be written to the
+     * given file. The supplier is called from the writer thread, and must
+     * therefore only depend on state captured at submission time.
+     *
+     * @param file The target file
+     * @param compound The supplier of the compound to write
+     */
+    public static void submit(Path file, Supplier<NBTTagCompound> compound) {
+        if (pendingWrites.put(file, compound) == null) {
+            writerService.execute(() -> write(file));
+        }
+    }
+
+    /**
+     * Writes the pending snapshot for the given file on the calling thread,
+     * waiting for any write of that file already in progress.
+     *
+     * @param file The target file
+     */
+    public static void flush(Path file) {
+        write(file);
+    }
+
+    /**
+     * Writes all pending snapshots on the calling thread.
+     */
+    public static void flushAll() {
+        for (Path file : pendingWrites.keySet()) {
+            write(file);
+        }
+    }
+
+    private static void write(Path file) {
+        writeLock.lock();
+        try {
+            // Removing under the lock guarantees an older snapshot can never
+            // be written after a newer one for the same file.
+            @Nullable final Supplier<NBTTagCompound> supplier = pendingWrites.remove(file);
+            if (supplier != null) {
+                writeAtomically(file, supplier.get());
+            }
+        } catch (Exception e) {
+            SpongeImpl.getLogger().error("Failed to save player data file [{}]!", file, e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    static void writeAtomically(Path file, NBTTagCompound compound) throws IOException {
+        final Path tmpFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream stream = Files.newOutputStream(tmpFile)) {
+            CompressedStreamTools.writeCompressed(compound, stream);
+        }
+        try {
+            Files.move(tmpFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private PlayerDataWriter() {
+    }
+}
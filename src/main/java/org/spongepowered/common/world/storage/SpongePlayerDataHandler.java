@@ -36,15 +36,12 @@
 import org.spongepowered.common.data.persistence.NbtTranslator;
 import org.spongepowered.common.world.WorldManager;
 
-import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.file.DirectoryIteratorException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -84,24 +81,10 @@ public static void init() {
             } catch (DirectoryIteratorException e) {
                 SpongeImpl.getLogger().error("Something happened when trying to gather all player files", e);
             }
-            for (Path playerFile : playerFiles) {
-                if (Files.isReadable(playerFile)) {
-                    NBTTagCompound compound;
-
-                    try (final InputStream stream = Files.newInputStream(playerFile)) {
-                        compound = CompressedStreamTools.readCompressed(stream);
-                    }
-
-                    // TODO Hard exception? Logger entry?
-                    if (compound == null) {
-                        throw new RuntimeException("Failed to decompress player data within [" + playerFile + "]!");
-                    }
-
-                    DataContainer container = NbtTranslator.getInstance().translateFrom(compound);
-                    SpongePlayerData data = container.getSerializable(DataQuery.of(), SpongePlayerData.class).get();
-                    handlerInstance.playerDataMap.put(data.uuid, data);
-                }
-            }
+            // Each file is independent, so they are read and decoded in parallel
+            playerFiles.parallelStream()
+                    .filter(Files::isReadable)
+                    .forEach(handlerInstance::loadFile);
             playerFiles.clear();
 
         } catch (FileAlreadyExistsException e) {
@@ -128,46 +111,34 @@ private static NBTTagCompound createCompoundFor(SpongePlayerData data) {
         return NbtTranslator.getInstance().translateData(data.toContainer());
     }
 
-    private static void saveFile(String id, NBTTagCompound compound) {
-        checkState(Holder.INSTANCE.hasInitialized, "PlayerDataHandler hasn't initialized yet!");
-        SpongePlayerDataHandler instance = Holder.INSTANCE;
+    private void loadFile(Path playerFile) {
         try {
-            final Path newDatPath = instance.playerDir.resolve(id + ".dat.tmp");
-            if (Files.notExists(newDatPath)) {
-                Files.createFile(newDatPath);
-            }
-
-            final Path finalDatPath = instance.playerDir.resolve(id + ".dat");
+            NBTTagCompound compound;
 
-            try (OutputStream stream = Files.newOutputStream(newDatPath)) {
-                CompressedStreamTools.writeCompressed(compound, stream);
-
-                try {
-                    Files.deleteIfExists(finalDatPath);
-                } catch (IOException ioe) {
-                    SpongeImpl.getLogger().error("Failed to delete the previous file [" + finalDatPath + "]!", ioe);
-                    return;
-                }
+            try (final InputStream stream = Files.newInputStream(playerFile)) {
+                compound = CompressedStreamTools.readCompressed(stream);
+            }
 
-                try {
-                    Files.move(newDatPath, finalDatPath,
-                            StandardCopyOption.REPLACE_EXISTING); // Replace is our last ditch effort to put this into place
-                } catch (IOException ioe) {
-                    SpongeImpl.getLogger().error("Could not rename file [{}] to [{}]!", newDatPath, finalDatPath);
-                    return;
-                }
+            if (compound == null) {
+                SpongeImpl.getLogger().error("Failed to decompress player data within [{}]!", playerFile);
+                return;
+            }
 
-                try {
-                    Files.deleteIfExists(newDatPath);
-                } catch (IOException ioe) {
-                    SpongeImpl.getLogger().error("Could not delete file [{}]!", newDatPath);
-                }
+            DataContainer container = NbtTranslator.getInstance().translateFrom(compound);
+            Optional<SpongePlayerData> data = container.getSerializable(DataQuery.of(), SpongePlayerData.class);
+            if (data.isPresent()) {
+                this.playerDataMap.put(data.get().uuid, data.get());
             }
         } catch (Exception e) {
-            SpongeImpl.getLogger().error("Failed to save player data for [{}]!", id, e);
+            SpongeImpl.getLogger().error("Failed to load player data from [{}]!", playerFile, e);
         }
     }
 
+    private static void saveFile(String id, NBTTagCompound compound) {
+        checkState(Holder.INSTANCE.hasInitialized, "PlayerDataHandler hasn't initialized yet!");
+        PlayerDataWriter.submit(Holder.INSTANCE.playerDir.resolve(id + ".dat"), () -> compound);
+    }
+
     public static void setPlayerInfo(UUID playerId, Instant join, Instant last) {
         checkState(Holder.INSTANCE.hasInitialized, "PlayerDataHandler hasn't initialized yet!");
         checkNotNull(join, "Joined date cannot be null!");
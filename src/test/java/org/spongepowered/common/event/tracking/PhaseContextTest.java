@@ -0,0 +1,106 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.management.PlayerList;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.Server;
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.event.cause.NamedCause;
+import org.spongepowered.common.SpongeGame;
+import org.spongepowered.common.SpongeImpl;
+
+import java.lang.reflect.Field;
+import java.util.UUID;
+
+public class PhaseContextTest {
+
+    private static final UUID PLAYER_ID = UUID.randomUUID();
+
+    private EntityPlayerMP player;
+    private Object previousInstance;
+
+    @Before
+    public void setUp() throws Exception {
+        this.player = mock(EntityPlayerMP.class, withSettings().extraInterfaces(Player.class));
+        final PlayerList playerList = mock(PlayerList.class);
+        when(playerList.getPlayerByUUID(PLAYER_ID)).thenReturn(this.player);
+        final MinecraftServer server = mock(MinecraftServer.class, withSettings().extraInterfaces(Server.class));
+        when(server.getPlayerList()).thenReturn(playerList);
+        final SpongeGame game = mock(SpongeGame.class);
+        when(game.getServer()).thenReturn((Server) server);
+        final SpongeImpl impl = mock(SpongeImpl.class);
+        setField("game", impl, game);
+        this.previousInstance = getField("instance", null);
+        setField("instance", null, impl);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        setField("instance", null, this.previousInstance);
+    }
+
+    @Test
+    public void testPlayerLookupResolvesNotifier() {
+        final PhaseContext context = PhaseContext.start()
+                .add(NamedCause.source(new Object()))
+                .notifierId(PLAYER_ID)
+                .complete();
+        assertSame(this.player, context.first(Player.class).get());
+    }
+
+    @Test
+    public void testNamedPlayerLookupResolvesOwner() {
+        final PhaseContext context = PhaseContext.start()
+                .add(NamedCause.source(new Object()))
+                .ownerId(PLAYER_ID)
+                .complete();
+        assertFalse(context.firstNamed(NamedCause.NOTIFIER, Player.class).isPresent());
+        assertSame(this.player, context.firstNamed(NamedCause.OWNER, Player.class).get());
+    }
+
+    private static Object getField(String name, Object target) throws Exception {
+        final Field field = SpongeImpl.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(target);
+    }
+
+    private static void setField(String name, Object target, Object value) throws Exception {
+        final Field field = SpongeImpl.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.api.event.cause.NamedCause;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+public class TickPhaseContextTest {
+
+    @Test
+    public void testContextIsResetAndReused() {
+        final TickPhaseContext.Pool pool = new TickPhaseContext.Pool();
+        final Object first = new Object();
+        final User notifier = mock(User.class);
+
+        final PhaseContext context = pool.acquire(first);
+        context.notifier(notifier);
+        context.complete();
+        context.getCapturedEntities().add(mock(Entity.class));
+        context.getCapturedBlocks();
+        assertSame(notifier, context.firstNamed(NamedCause.NOTIFIER, User.class).get());
+        pool.release(context);
+
+        final Object second = new Object();
+        final PhaseContext reused = pool.acquire(second);
+        assertSame(context, reused);
+        assertFalse(reused.isComplete());
+        assertSame(second, reused.getSource(Object.class).get());
+        assertSame(second, reused.first(Object.class).get());
+        assertFalse(reused.getNotifier().isPresent());
+        assertFalse(reused.firstNamed(NamedCause.NOTIFIER, User.class).isPresent());
+        assertTrue(reused.getCapturedEntitySupplier().isEmpty());
+        assertTrue(reused.getCapturedBlockSupplier().isEmpty());
+        // The notifier can be set again for the new tick
+        reused.notifier(notifier);
+    }
+
+    @Test
+    public void testNestedTicksGetSeparateContexts() {
+        final TickPhaseContext.Pool pool = new TickPhaseContext.Pool();
+        final PhaseContext outer = pool.acquire(new Object());
+        final PhaseContext inner = pool.acquire(new Object());
+        assertNotSame(outer, inner);
+        pool.release(inner);
+        assertSame(inner, pool.acquire(new Object()));
+    }
+
+    @Test
+    public void testPhaseDataIsCachedPerState() {
+        final TickPhaseContext.Pool pool = new TickPhaseContext.Pool();
+        final PhaseContext context = pool.acquire(new Object()).complete();
+        final IPhaseState state = mock(IPhaseState.class);
+        final PhaseData data = context.createPhaseData(state);
+        assertSame(context, data.context);
+        assertSame(data, context.createPhaseData(state));
+        assertNotSame(data, context.createPhaseData(mock(IPhaseState.class)));
+    }
+
+    @Test
+    public void testPoolDepthIsBounded() {
+        final TickPhaseContext.Pool pool = new TickPhaseContext.Pool();
+        final Set<PhaseContext> pooled = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < TickPhaseContext.Pool.MAX_DEPTH; i++) {
+            final PhaseContext context = pool.acquire(new Object());
+            assertTrue(context instanceof TickPhaseContext);
+            pooled.add(context);
+        }
+        assertEquals(TickPhaseContext.Pool.MAX_DEPTH, pooled.size());
+        // Deeper nesting gets throwaway contexts which never enter the pool
+        final PhaseContext overflow = pool.acquire(new Object());
+        assertFalse(overflow instanceof TickPhaseContext);
+        pool.release(overflow);
+        assertFalse(pool.acquire(new Object()) instanceof TickPhaseContext);
+        for (PhaseContext context : pooled) {
+            pool.release(context);
+        }
+        for (int i = 0; i < TickPhaseContext.Pool.MAX_DEPTH; i++) {
+            assertTrue(pooled.contains(pool.acquire(new Object())));
+        }
+    }
+
+    @Test
+    public void testAbandonedContextIsReplaced() {
+        final TickPhaseContext.Pool pool = new TickPhaseContext.Pool();
+        final PhaseContext abandoned = pool.acquire(new Object());
+        pool.abandon(abandoned);
+        final Object source = new Object();
+        final PhaseContext replacement = pool.acquire(source);
+        assertTrue(replacement instanceof TickPhaseContext);
+        assertNotSame(abandoned, replacement);
+        assertSame(source, replacement.getSource(Object.class).get());
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.text.chat;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.network.NetHandlerPlayServer;
+import net.minecraft.network.play.server.SPacketChat;
+import net.minecraft.util.text.TextComponentString;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.common.interfaces.text.IMixinText;
+
+import java.util.List;
+
+public class ChatPacketCacheTest {
+
+    private static final SpongeChatType CHAT = new SpongeChatType("minecraft:chat", "chat", (byte) 0);
+    private static final SpongeChatType SYSTEM = new SpongeChatType("minecraft:system", "system", (byte) 1);
+
+    @Test
+    public void testHiddenChatGetsUnsharedPackets() {
+        assertSendsPackets(EntityPlayer.EnumChatVisibility.HIDDEN);
+    }
+
+    @Test
+    public void testSystemChatGetsUnsharedPackets() {
+        assertSendsPackets(EntityPlayer.EnumChatVisibility.SYSTEM);
+    }
+
+    private static void assertSendsPackets(EntityPlayer.EnumChatVisibility visibility) {
+        final NetHandlerPlayServer connection = mock(NetHandlerPlayServer.class);
+        final Text message = mock(Text.class, withSettings().extraInterfaces(IMixinText.class));
+        when(((IMixinText) message).toComponent()).thenReturn(new TextComponentString("message"));
+
+        // Filtering is left to the connection, exactly as for a packet built per receiver
+        ChatPacketCache.sendMessage(connection, visibility, message, CHAT);
+        ChatPacketCache.sendMessage(connection, visibility, message, SYSTEM);
+
+        final ArgumentCaptor<SPacketChat> captor = ArgumentCaptor.forClass(SPacketChat.class);
+        verify(connection, times(2)).sendPacket(captor.capture());
+        verifyNoMoreInteractions(connection);
+        final List<SPacketChat> packets = captor.getAllValues();
+        assertFalse(packets.get(0).isSystem());
+        assertTrue(packets.get(1).isSystem());
+    }
+
+}